@@ -0,0 +1,250 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Ready queue ordered by remaining time where waiting processes age lazily.
+ * <p>
+ * A waiting process loses one unit of remaining time every {@code threshold} aging
+ * rounds. Instead of sweeping the queue each round, every entry records the round it
+ * entered at and how far into the aging period it already was; its effective remaining
+ * time and the number of aging steps it received are derived in closed form when they
+ * are needed.
+ * <p>
+ * Entries are grouped by their phase, the round within the aging period at which they
+ * age. Within a phase everything ages together, so each phase is a small binary heap
+ * with static keys, and the heaps share one position array: memory is O(n + threshold)
+ * and an add or remove touches one heap. A segment tree over the phases holds the head
+ * of each heap. At any round the phases split into two ranges, those that have already
+ * aged once more in the current period and those that have not, so the head of the
+ * whole queue is the better of two range minima, found in O(log threshold).
+ */
+public final class AgingReadyQueue {
+    /**
+     * Largest aging threshold accepted. The phases cost a few words each, allocated up front.
+     */
+    public static final int MAX_THRESHOLD = 1 << 16;
+
+    private static final int NONE = -1;
+    private static final int[] EMPTY = new int[0];
+
+    private final boolean aging;
+    private final int threshold;
+    private final int[] baseKey;
+    private final int[] offset;
+    // remaining time less the aging steps due in whole periods since the item entered
+    private final long[] key;
+    private final int[] position;
+    private final int[][] phaseHeap;
+    private final int[] phaseSize;
+    // phase heads; the leaves start at index leaves
+    private final int[] tree;
+    private final int leaves;
+    private int size;
+    private int rounds;
+
+    /**
+     * @param capacity  number of distinct items, {@code 0..capacity-1}
+     * @param threshold rounds of waiting per aging step, or 0 to disable aging
+     */
+    public AgingReadyQueue(int capacity, int threshold) {
+        if (threshold < 0 || threshold > MAX_THRESHOLD) {
+            throw new IllegalArgumentException("Aging threshold must be between 0 and " + MAX_THRESHOLD + ": " + threshold);
+        }
+        this.aging = threshold > 0;
+        this.threshold = aging ? threshold : 1;
+        this.baseKey = new int[capacity];
+        this.offset = new int[capacity];
+        this.key = new long[capacity];
+        this.position = new int[capacity];
+        this.phaseHeap = new int[this.threshold][];
+        this.phaseSize = new int[this.threshold];
+        Arrays.fill(phaseHeap, EMPTY);
+        this.leaves = Integer.highestOneBit(Math.max(1, this.threshold - 1)) << 1;
+        this.tree = new int[2 * leaves];
+        Arrays.fill(tree, NONE);
+        Arrays.fill(position, NONE);
+    }
+
+    /**
+     * Queues {@code item} with its actual remaining time. {@code waitTime} is how many
+     * rounds into the current aging period the item already was when it last left the queue.
+     */
+    public void add(int item, int remaining, int waitTime) {
+        if (position[item] != NONE) {
+            throw new IllegalArgumentException("Item " + item + " is already queued");
+        }
+        baseKey[item] = remaining;
+        offset[item] = waitTime - rounds;
+        key[item] = aging ? remaining - Math.floorDiv(offset[item], threshold) : remaining;
+        int phase = phase(item);
+        if (phaseSize[phase] == phaseHeap[phase].length) {
+            phaseHeap[phase] = Arrays.copyOf(phaseHeap[phase], Math.max(4, 2 * phaseSize[phase]));
+        }
+        phaseHeap[phase][phaseSize[phase]] = item;
+        siftUp(phase, phaseSize[phase]++);
+        size++;
+        headChanged(phase);
+    }
+
+    /**
+     * Ages everything that is waiting by {@code count} rounds.
+     */
+    public void advance(int count) {
+        if (aging) {
+            rounds += count;
+        }
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int peek() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        // phases from threshold - m on have aged once more than the others this period
+        int m = Math.floorMod(rounds, threshold);
+        int notAged = lowest(0, threshold - m);
+        int aged = lowest(threshold - m, threshold);
+        if (notAged == NONE) {
+            return aged;
+        }
+        if (aged == NONE) {
+            return notAged;
+        }
+        long agedKey = key[aged] - 1;
+        return agedKey < key[notAged] || agedKey == key[notAged] && aged < notAged ? aged : notAged;
+    }
+
+    /**
+     * Effective (aged) remaining time of the item at the head of the queue.
+     */
+    public long peekKey() {
+        return effectiveRemaining(peek());
+    }
+
+    /**
+     * Aging steps {@code item} has received since it entered the queue.
+     */
+    public int agingSteps(int item) {
+        return aging ? Math.floorDiv(offset[item] + rounds, threshold) : 0;
+    }
+
+    /**
+     * Rounds into the current aging period {@code item} is, to be handed back to
+     * {@link #add} when it is queued again.
+     */
+    public int waitTime(int item) {
+        return aging ? Math.floorMod(offset[item] + rounds, threshold) : 0;
+    }
+
+    public int effectiveRemaining(int item) {
+        return baseKey[item] - agingSteps(item);
+    }
+
+    public int poll() {
+        int item = peek();
+        remove(item);
+        return item;
+    }
+
+    public void remove(int item) {
+        int index = position[item];
+        if (index == NONE) {
+            throw new NoSuchElementException("Item " + item + " is not queued");
+        }
+        int phase = phase(item);
+        int[] heap = phaseHeap[phase];
+        int last = heap[--phaseSize[phase]];
+        position[item] = NONE;
+        size--;
+        if (index < phaseSize[phase]) {
+            heap[index] = last;
+            position[last] = index;
+            siftDown(phase, index);
+            siftUp(phase, position[last]);
+        }
+        headChanged(phase);
+    }
+
+    private int phase(int item) {
+        return aging ? Math.floorMod(offset[item], threshold) : 0;
+    }
+
+    private boolean less(int a, int b) {
+        return key[a] < key[b] || key[a] == key[b] && a < b;
+    }
+
+    /**
+     * The lowest head among the phases {@code from..to-1}, or NONE.
+     */
+    private int lowest(int from, int to) {
+        int best = NONE;
+        for (int low = from + leaves, high = to + leaves; low < high; low >>>= 1, high >>>= 1) {
+            if ((low & 1) == 1) {
+                best = lower(best, tree[low++]);
+            }
+            if ((high & 1) == 1) {
+                best = lower(best, tree[--high]);
+            }
+        }
+        return best;
+    }
+
+    private int lower(int a, int b) {
+        if (a == NONE) {
+            return b;
+        }
+        return b == NONE || less(a, b) ? a : b;
+    }
+
+    private void headChanged(int phase) {
+        int node = phase + leaves;
+        tree[node] = phaseSize[phase] == 0 ? NONE : phaseHeap[phase][0];
+        for (node >>>= 1; node > 0; node >>>= 1) {
+            tree[node] = lower(tree[2 * node], tree[2 * node + 1]);
+        }
+    }
+
+    private void siftUp(int phase, int index) {
+        int[] heap = phaseHeap[phase];
+        int item = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!less(item, heap[parent])) {
+                break;
+            }
+            heap[index] = heap[parent];
+            position[heap[index]] = index;
+            index = parent;
+        }
+        heap[index] = item;
+        position[item] = index;
+    }
+
+    private void siftDown(int phase, int index) {
+        int[] heap = phaseHeap[phase];
+        int size = phaseSize[phase];
+        int item = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && less(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!less(heap[child], item)) {
+                break;
+            }
+            heap[index] = heap[child];
+            position[heap[index]] = index;
+            index = child;
+        }
+        heap[index] = item;
+        position[item] = index;
+    }
+}
@@ -0,0 +1,71 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Runs several engines on the same workload at once, one fork-join task per engine.
+ * Engines never change the workload, so the runs share the same specs and the
+ * comparison takes about as long as the slowest engine alone.
+ */
+public final class AlgorithmComparison {
+    private AlgorithmComparison() {
+    }
+
+    /**
+     * The five algorithms, with the given context switch time where it applies.
+     */
+    public static List<SchedulingEngine> allEngines(int contextSwitchTime) {
+        return Arrays.asList(
+                new FCFSEngine(),
+                new SJFEngine(),
+                new SRTFEngine(contextSwitchTime),
+                new PriorityEngine(contextSwitchTime),
+                new FCAIEngine());
+    }
+
+    public static List<ScheduleResult> run(List<SchedulingEngine> engines, List<ProcessSpec> workload) {
+        return run(engines, Workload.of(workload));
+    }
+
+    /**
+     * Runs every engine on {@code workload}, all sharing it, and returns the results in
+     * the order of {@code engines}. The caller closes them when done.
+     */
+    public static List<ScheduleResult> run(List<SchedulingEngine> engines, Workload workload) {
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, Math.min(engines.size(), Runtime.getRuntime().availableProcessors())));
+        try {
+            List<ForkJoinTask<ScheduleResult>> tasks = new ArrayList<>();
+            for (SchedulingEngine engine : engines) {
+                tasks.add(pool.submit(() -> engine.run(workload)));
+            }
+            List<ScheduleResult> results = new ArrayList<>();
+            for (ForkJoinTask<ScheduleResult> task : tasks) {
+                results.add(task.join());
+            }
+            return results;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * One line per result: average waiting and turnaround time, makespan and the number
+     * of context switches.
+     */
+    public static String formatTable(List<ScheduleResult> results) {
+        String separator = "+------------+------------+------------+------------+------------------+\n";
+        StringBuilder table = new StringBuilder();
+        table.append(separator);
+        table.append(String.format("| %-10s | %10s | %10s | %10s | %16s |\n", "Algorithm", "AWT", "ATAT", "Makespan", "Context Switches"));
+        table.append(separator);
+        for (ScheduleResult result : results) {
+            table.append(String.format("| %-10s | %10.2f | %10.2f | %10d | %16d |\n", result.getAlgorithm(),
+                    result.getAverageWaitingTime(), result.getAverageTurnaroundTime(),
+                    result.getMakespan(), result.getContextSwitchCount()));
+        }
+        table.append(separator);
+        return table.toString();
+    }
+}
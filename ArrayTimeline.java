@@ -0,0 +1,61 @@
+import java.util.Arrays;
+
+/**
+ * {@link Timeline} kept on the heap in three parallel {@code int} arrays.
+ */
+public final class ArrayTimeline extends Timeline {
+    private int[] processIndex;
+    private int[] startTime;
+    private int[] endTime;
+    private int size;
+
+    public ArrayTimeline() {
+        this(64);
+    }
+
+    public ArrayTimeline(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        processIndex = new int[capacity];
+        startTime = new int[capacity];
+        endTime = new int[capacity];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int processIndex(int slice) {
+        return processIndex[slice];
+    }
+
+    @Override
+    public int startTime(int slice) {
+        return startTime[slice];
+    }
+
+    @Override
+    public int endTime(int slice) {
+        return endTime[slice];
+    }
+
+    @Override
+    public void append(int processIndex, int startTime, int endTime) {
+        if (size == this.processIndex.length) {
+            int capacity = size + (size >> 1) + 1;
+            this.processIndex = Arrays.copyOf(this.processIndex, capacity);
+            this.startTime = Arrays.copyOf(this.startTime, capacity);
+            this.endTime = Arrays.copyOf(this.endTime, capacity);
+        }
+        this.processIndex[size] = processIndex;
+        this.startTime[size] = startTime;
+        this.endTime[size] = endTime;
+        size++;
+    }
+
+    @Override
+    void setEndTime(int slice, int endTime) {
+        this.endTime[slice] = endTime;
+    }
+}
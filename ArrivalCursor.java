@@ -0,0 +1,44 @@
+/**
+ * Admits processes into a ready queue in arrival order.
+ * <p>
+ * The slots of a {@link ProcessTable} are already in admission order, so the cursor
+ * only moves forward over them: every process is looked at exactly once no matter
+ * how many times the scheduler asks for new arrivals.
+ */
+public final class ArrivalCursor {
+    private final ProcessTable table;
+    private int next;
+
+    public ArrivalCursor(ProcessTable table) {
+        this.table = table;
+    }
+
+    public boolean hasNext() {
+        return next < table.size();
+    }
+
+    /**
+     * Returns true if the next process has arrived by {@code time}.
+     */
+    public boolean hasArrivalBy(int time) {
+        return next < table.size() && table.arrivalTime(next) <= time;
+    }
+
+    /**
+     * Arrival time of the next process, or {@link Integer#MAX_VALUE} when all have been admitted.
+     */
+    public int peekArrivalTime() {
+        return next < table.size() ? table.arrivalTime(next) : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Admits the next process and returns its slot in the table.
+     */
+    public int nextSlot() {
+        return next++;
+    }
+
+    public int size() {
+        return table.size();
+    }
+}
@@ -0,0 +1,269 @@
+import java.util.Arrays;
+
+/**
+ * Bounded log of the scheduling events of a run.
+ * <p>
+ * Events are kept as compact records (type, time, process id and one packed value) in
+ * a ring buffer; the text shown to the user is only built when a record is read, so
+ * logging costs a few array stores per event. Once the buffer is full the oldest
+ * records are overwritten and counted as dropped.
+ * <p>
+ * Every event is also passed to the {@link EventSink} the log was created with,
+ * whatever the level, so a trace can keep the full run while the log keeps a window.
+ * <p>
+ * One thread records while others may read: a reader skips any record that was
+ * overwritten while it was being read.
+ * <p>
+ * The defaults come from system properties: {@code scheduler.log.capacity} (records,
+ * default 100000) and {@code scheduler.log.level} ({@code OFF}, {@code INFO} or
+ * {@code DEBUG}, the default, in any case; anything else is reported and treated as
+ * {@code DEBUG}). {@code OFF} disables logging entirely, which is what benchmarks want.
+ */
+public final class EventLog {
+    public static final int DEFAULT_CAPACITY = Integer.getInteger("scheduler.log.capacity", 100_000);
+    public static final Level DEFAULT_LEVEL = levelProperty();
+
+    /** Process id used by events that are not about a particular process. */
+    public static final int NO_PROCESS = Integer.MIN_VALUE;
+
+    public enum Level {
+        OFF, INFO, DEBUG
+    }
+
+    public enum Type {
+        STARTED(Level.INFO),
+        ARRIVAL(Level.DEBUG),
+        DISPATCH(Level.INFO),
+        CONTEXT_SWITCH(Level.INFO),
+        PREEMPT(Level.INFO),
+        AGING(Level.DEBUG),
+        QUANTUM(Level.DEBUG),
+        QUANTUM_EXPIRED(Level.DEBUG),
+        FCAI_FACTOR(Level.DEBUG),
+        REMAINING(Level.DEBUG),
+        COMPLETE(Level.INFO),
+        FINISHED(Level.INFO);
+
+        private final Level level;
+
+        Type(Level level) {
+            this.level = level;
+        }
+
+        public Level getLevel() {
+            return level;
+        }
+    }
+
+    private static final Type[] TYPES = Type.values();
+    private static final int INITIAL_SIZE = 1024;
+
+    private final Level level;
+    private final EventSink sink;
+    private final int capacity;
+    // grown on demand up to the capacity, so short runs stay small
+    private byte[] types;
+    private int[] times;
+    private int[] processes;
+    private long[] values;
+    private volatile long written;
+    private volatile boolean closed;
+
+    private static Level levelProperty() {
+        String value = System.getProperty("scheduler.log.level", "DEBUG").trim();
+        for (Level level : Level.values()) {
+            if (level.name().equalsIgnoreCase(value)) {
+                return level;
+            }
+        }
+        System.err.println("Unknown scheduler.log.level '" + value + "', using DEBUG");
+        return Level.DEBUG;
+    }
+
+    public EventLog() {
+        this(EventSink.NONE);
+    }
+
+    public EventLog(EventSink sink) {
+        this(DEFAULT_CAPACITY, DEFAULT_LEVEL, sink);
+    }
+
+    public EventLog(int capacity, Level level) {
+        this(capacity, level, EventSink.NONE);
+    }
+
+    public EventLog(int capacity, Level level, EventSink sink) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.level = level;
+        this.sink = sink;
+        // nothing is ever stored when logging is off
+        this.capacity = level == Level.OFF ? 1 : capacity;
+        int size = Math.min(this.capacity, INITIAL_SIZE);
+        types = new byte[size];
+        times = new int[size];
+        processes = new int[size];
+        values = new long[size];
+    }
+
+    /**
+     * A log at {@link Level#OFF} that keeps nothing, for batch runs whose events are
+     * never read.
+     */
+    public static EventLog disabled() {
+        return new EventLog(1, Level.OFF);
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public boolean isEnabled(Type type) {
+        return type.level.compareTo(level) <= 0;
+    }
+
+    public void record(Type type, int time, int processId) {
+        record(type, time, processId, 0);
+    }
+
+    /**
+     * Appends an event. What {@code value} holds depends on the type, see
+     * {@link #appendTo(StringBuilder, long)}; two ints are packed with {@link #pack}.
+     */
+    public void record(Type type, int time, int processId, long value) {
+        sink.record(type, time, processId, value);
+        if (!isEnabled(type)) {
+            return;
+        }
+        long sequence = written;
+        if (sequence == types.length && sequence < capacity) {
+            grow();
+        }
+        int slot = (int) (sequence % capacity);
+        types[slot] = (byte) type.ordinal();
+        times[slot] = time;
+        processes[slot] = processId;
+        values[slot] = value;
+        written = sequence + 1;
+    }
+
+    private void grow() {
+        // only while nothing has been overwritten yet: every record is at its own sequence number
+        int size = (int) Math.min(capacity, 2L * types.length);
+        types = Arrays.copyOf(types, size);
+        times = Arrays.copyOf(times, size);
+        processes = Arrays.copyOf(processes, size);
+        values = Arrays.copyOf(values, size);
+    }
+
+    public void record(Type type, int time, int processId, double value) {
+        record(type, time, processId, Double.doubleToRawLongBits(value));
+    }
+
+    /** Records the completion of {@code slot}, whose completion time is already set in the table. */
+    public void recordCompletion(ProcessTable table, int slot) {
+        record(Type.COMPLETE, table.completionTime(slot), table.id(slot),
+                pack(table.waitingTime(slot), table.turnaroundTime(slot)));
+    }
+
+    public static long pack(int high, int low) {
+        return ((long) high << 32) | (low & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Marks the run as finished. Readers can then also read the oldest record, which a
+     * running writer could be about to overwrite.
+     */
+    public void close() {
+        closed = true;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /** Sequence number the next record will get; the number of records ever written. */
+    public long getWritten() {
+        return written;
+    }
+
+    /** Sequence number of the oldest record still held. */
+    public long getOldest() {
+        long oldest = written - capacity;
+        return Math.max(0, closed ? oldest : oldest + 1);
+    }
+
+    public long getDropped() {
+        return Math.max(0, written - capacity);
+    }
+
+    /**
+     * Appends the text of record {@code sequence}, without a line break.
+     *
+     * @return false, leaving {@code out} unchanged, if the record is no longer held
+     */
+    public boolean appendTo(StringBuilder out, long sequence) {
+        if (sequence < getOldest() || sequence >= written) {
+            return false;
+        }
+        int slot = (int) (sequence % capacity);
+        Type type = TYPES[types[slot]];
+        int time = times[slot];
+        int process = processes[slot];
+        long value = values[slot];
+        if (sequence < getOldest()) {
+            // overwritten while it was being read
+            return false;
+        }
+
+        int high = (int) (value >> 32);
+        int low = (int) value;
+        switch (type) {
+            case STARTED:
+                out.append("Execution started.");
+                break;
+            case ARRIVAL:
+                out.append("Process P").append(process).append(" added to ready queue at time ").append(time);
+                break;
+            case DISPATCH:
+                out.append("Starting execution of process P").append(process).append(" at time ").append(time);
+                break;
+            case CONTEXT_SWITCH:
+                out.append("Context switch at time ").append(time);
+                if (process != NO_PROCESS) {
+                    out.append(" - Switching to process P").append(process);
+                }
+                break;
+            case PREEMPT:
+                out.append("Preemption occurred at time ").append(time).append(" - Process P").append(process)
+                        .append(" is preempted by P").append(value);
+                break;
+            case AGING:
+                out.append("Aging applied to process P").append(process).append(' ').append(high)
+                        .append(" times while waiting: Remaining Time was reduced to ").append(low);
+                break;
+            case QUANTUM:
+                out.append("Updated quantum for process P").append(process).append(" to ").append(value);
+                break;
+            case QUANTUM_EXPIRED:
+                out.append("Process P").append(process).append(" finished its quantum, added back to the queue with new quantum");
+                break;
+            case FCAI_FACTOR:
+                out.append("Updated FCAI factor for process P").append(process).append(". FCAI Factor: ")
+                        .append(Double.longBitsToDouble(value));
+                break;
+            case REMAINING:
+                out.append("Process P").append(process).append(" Remaining Burst Time: ").append(value);
+                break;
+            case COMPLETE:
+                out.append("Process P").append(process).append(" completed at time ").append(time)
+                        .append(" (waiting time ").append(high).append(", turnaround time ").append(low).append(')');
+                break;
+            case FINISHED:
+                out.append("Execution completed at time ").append(time);
+                break;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * Receives every scheduling event of a run as it happens, whatever the level of the
+ * run's {@link EventLog}. The arguments are those of {@link EventLog#record}.
+ */
+public interface EventSink {
+    EventSink NONE = (type, time, processId, value) -> { };
+
+    void record(EventLog.Type type, int time, int processId, long value);
+}
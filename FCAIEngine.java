@@ -0,0 +1,196 @@
+public class FCAIEngine implements SchedulingEngine {
+    public static final double DEFAULT_QUANTUM_SPLIT = 0.4;
+    public static final double DEFAULT_DIVISOR = 10.0;
+
+    private final double quantumSplit;
+    private final double v1Divisor;
+    private final double v2Divisor;
+
+    public FCAIEngine() {
+        this(DEFAULT_QUANTUM_SPLIT, DEFAULT_DIVISOR, DEFAULT_DIVISOR);
+    }
+
+    /**
+     * @param quantumSplit share of the quantum a process runs before it can be preempted,
+     *                     above 0 and at most 1
+     * @param v1Divisor    V1 is the last arrival time divided by this, above 0
+     * @param v2Divisor    V2 is the longest burst time divided by this, above 0
+     */
+    public FCAIEngine(double quantumSplit, double v1Divisor, double v2Divisor) {
+        if (!(quantumSplit > 0 && quantumSplit <= 1)) {
+            throw new IllegalArgumentException("Quantum split must be above 0 and at most 1: " + quantumSplit);
+        }
+        if (!(v1Divisor > 0) || !(v2Divisor > 0)) {
+            throw new IllegalArgumentException("V1 and V2 divisors must be above 0: " + v1Divisor + ", " + v2Divisor);
+        }
+        this.quantumSplit = quantumSplit;
+        this.v1Divisor = v1Divisor;
+        this.v2Divisor = v2Divisor;
+    }
+
+    @Override
+    public String getName() {
+        return "FCAI";
+    }
+
+    @Override
+    public ScheduleResult run(Workload workload, EventLog eventLog) {
+        ProcessTable table = ProcessTable.byArrival(workload);
+        ArrivalCursor arrivals = new ArrivalCursor(table);
+        TimelineBuilder executionHistory = new TimelineBuilder();
+
+        eventLog.record(EventLog.Type.STARTED, 0, EventLog.NO_PROCESS);
+
+        int n = table.size();
+
+        double V1 = table.maxArrivalTime() / v1Divisor;
+        double V2 = table.maxBurstTime() / v2Divisor;
+
+        for (int slot = 0; slot < n; slot++) {
+            table.updateFcaiFactor(slot, V1, V2);
+            eventLog.record(EventLog.Type.FCAI_FACTOR, 0, table.id(slot), table.fcaiFactor(slot));
+        }
+
+        if (n == 0) {
+            eventLog.close();
+            return table.toResult(getName(), workload, executionHistory.build(), eventLog);
+        }
+
+        int currentProcess = arrivals.nextSlot();
+        FcaiReadyQueue dq = new FcaiReadyQueue(table);
+        int currentTime = table.arrivalTime(currentProcess);
+
+        dq.addFirst(currentProcess);
+        int all_done = 0;
+
+        while (all_done != n) {
+            if (dq.isEmpty()) {
+                dq.addFirst(arrivals.nextSlot());
+                eventLog.record(EventLog.Type.ARRIVAL, currentTime, table.id(dq.getFirst()));
+            }
+
+            int first = dq.getFirst();
+            eventLog.record(EventLog.Type.DISPATCH, currentTime, table.id(first));
+
+            int old_quan = table.quantum(first);
+            int exc = (int) Math.ceil(quantumSplit * table.quantum(first));
+            exc = Math.min(exc, table.remaining(first));
+            table.setRemaining(first, table.remaining(first) - exc);
+            currentTime += exc;
+            executionHistory.record(table.index(first), currentTime - exc, currentTime);
+
+            int unused = table.quantum(first) - exc;
+
+            if (table.remaining(first) <= 0) {
+                logRemainingBurstTime(eventLog, table, first, currentTime);
+                complete(eventLog, table, first, currentTime);
+
+                all_done++;
+                dq.removeFirst();
+                continue;
+            }
+
+            boolean isPrem = false;
+
+            int canPreempt = RR(dq, (int) table.fcaiFactor(first));
+            if (canPreempt >= 0) {
+                logRemainingBurstTime(eventLog, table, first, currentTime);
+                eventLog.record(EventLog.Type.PREEMPT, currentTime, table.id(first), table.id(canPreempt));
+                table.updateFcaiFactor(first, V1, V2);
+                table.setQuantum(first, old_quan + unused);
+                eventLog.record(EventLog.Type.QUANTUM, currentTime, table.id(first), table.quantum(first));
+                eventLog.record(EventLog.Type.FCAI_FACTOR, currentTime, table.id(first), table.fcaiFactor(first));
+                dq.remove(canPreempt);
+                dq.remove(first);
+                dq.addFirst(canPreempt);
+                dq.addLast(first);
+            } else {
+                while (unused > 0 && table.remaining(first) > 0) {
+                    // At most one process is admitted per time unit, and only an admission
+                    // can lead to a preemption, so run straight up to the next time unit
+                    // that admits one, the end of the quantum or completion.
+                    int steps = Math.min(unused, table.remaining(first));
+                    if (arrivals.hasNext()) {
+                        int nextAdmission = Math.max(currentTime + 1, arrivals.peekArrivalTime());
+                        steps = Math.min(steps, nextAdmission - currentTime);
+                    }
+                    table.setRemaining(first, table.remaining(first) - steps);
+                    logRemainingBurstTime(eventLog, table, first, currentTime + steps);
+                    executionHistory.record(table.index(first), currentTime, currentTime + steps);
+                    unused -= steps;
+                    currentTime += steps;
+                    int add = add(arrivals, currentTime);
+                    if (add >= 0) {
+                        dq.addLast(add);
+                        int temp = RR(dq, (int) table.fcaiFactor(first));
+                        if (temp >= 0) {
+                            dq.remove(temp);
+                            dq.remove(first);
+                            dq.addFirst(temp);
+                            dq.addLast(first);
+                            isPrem = true;
+                            break;
+                        }
+                    }
+                }
+                if (table.remaining(dq.getFirst()) <= 0) {
+                    complete(eventLog, table, dq.getFirst(), currentTime);
+
+                    all_done++;
+                    dq.removeFirst();
+                    continue;
+                }
+
+                if (unused == 0) {
+                    if (!isPrem) {
+                        eventLog.record(EventLog.Type.QUANTUM_EXPIRED, currentTime, table.id(dq.getFirst()));
+                        dq.addLast(dq.removeFirst());
+                    }
+                    table.setQuantum(dq.getLast(), table.quantum(dq.getLast()) + 2);
+                    eventLog.record(EventLog.Type.QUANTUM, currentTime, table.id(dq.getLast()), table.quantum(dq.getLast()));
+                } else {
+                    table.setQuantum(dq.getLast(), table.quantum(dq.getLast()) + unused);
+                    eventLog.record(EventLog.Type.QUANTUM, currentTime, table.id(dq.getLast()), table.quantum(dq.getLast()));
+                }
+                table.updateFcaiFactor(dq.getLast(), V1, V2);
+                dq.factorChanged(dq.getLast());
+                eventLog.record(EventLog.Type.FCAI_FACTOR, currentTime, table.id(dq.getLast()), table.fcaiFactor(dq.getLast()));
+            }
+        }
+        eventLog.record(EventLog.Type.FINISHED, currentTime, EventLog.NO_PROCESS);
+        eventLog.close();
+        return table.toResult(getName(), workload, executionHistory.build(), eventLog);
+    }
+
+    /**
+     * Admits at most one process that has arrived by {@code time}.
+     *
+     * @return its slot, or -1 if none has arrived
+     */
+    private int add(ArrivalCursor arrivals, int time) {
+        if (arrivals.hasArrivalBy(time)) {
+            return arrivals.nextSlot();
+        } else {
+            return -1;
+        }
+    }
+
+    /**
+     * The queued process with the lowest FCAI factor below {@code factor}, the frontmost
+     * among equal factors, or -1 if there is none. Factors are whole numbers, so this is
+     * the process a front-to-back scan keeping each strictly lower factor would find;
+     * like that scan, it ignores factors of 1e9 and above.
+     */
+    private int RR(FcaiReadyQueue dq, int factor) {
+        return dq.lowestFactorBelow(Math.min(factor, (int) 1e9));
+    }
+
+    private void complete(EventLog eventLog, ProcessTable table, int slot, int currentTime) {
+        table.setCompletionTime(slot, currentTime);
+        eventLog.recordCompletion(table, slot);
+    }
+
+    private void logRemainingBurstTime(EventLog eventLog, ProcessTable table, int slot, int currentTime) {
+        eventLog.record(EventLog.Type.REMAINING, currentTime, table.id(slot), table.remaining(slot));
+    }
+}
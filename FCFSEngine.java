@@ -0,0 +1,30 @@
+public class FCFSEngine implements SchedulingEngine {
+
+    @Override
+    public String getName() {
+        return "FCFS";
+    }
+
+    @Override
+    public ScheduleResult run(Workload processes, EventLog eventLog) {
+        ProcessTable table = ProcessTable.byArrival(processes);
+        TimelineBuilder executionHistory = new TimelineBuilder();
+        int currentTime = 0;
+
+        for (int slot = 0; slot < table.size(); slot++) {
+            if (currentTime < table.arrivalTime(slot)) {
+                currentTime = table.arrivalTime(slot);
+            }
+            eventLog.record(EventLog.Type.DISPATCH, currentTime, table.id(slot));
+            executionHistory.record(table.index(slot), currentTime, currentTime + table.burstTime(slot));
+
+            currentTime += table.burstTime(slot);
+            table.setRemaining(slot, 0);
+            table.setCompletionTime(slot, currentTime);
+            eventLog.recordCompletion(table, slot);
+        }
+
+        eventLog.close();
+        return table.toResult(getName(), processes, executionHistory.build(), eventLog);
+    }
+}
@@ -1,30 +1,11 @@
-import java.util.ArrayList;
-import java.util.Comparator;
-
+/**
+ * FCFS has no window of its own; its results are only printed to the console.
+ */
 public class FCFSScheduler implements Scheduler {
-    private final ArrayList<Process> processes;
-
-    public FCFSScheduler(ArrayList<Process> processes) {
-        this.processes = processes;
-    }
 
     @Override
-    public void execute() {
-        processes.sort(Comparator.comparingInt(Process::getArrivalTime));
-        int currentTime = 0;
-
-        for(Process process : processes) {
-            if(currentTime < process.getArrivalTime()){
-                currentTime = process.getArrivalTime();
-            }
-
-            currentTime += process.getBurstTime();
-            process.setCompletionTime(currentTime);
-
-            process.setTurnaroundTime(process.getCompletionTime() - process.getArrivalTime());
+    public void showResult(ScheduleResult result) {
 
-            process.setWaitingTime(process.getTurnaroundTime() - process.getBurstTime());
-        }
     }
 
     @Override
@@ -0,0 +1,120 @@
+/**
+ * FCAI's ready queue: the processes in queue order, also indexed by FCAI factor.
+ * <p>
+ * The queue order is a doubly linked list over the slots of a {@link ProcessTable},
+ * so adding at either end and removing any process cost O(1). Every process also gets
+ * a sequence number, lower towards the front, and an {@link IndexedMinHeap} keyed by
+ * (factor, sequence) finds the process with the lowest factor, frontmost among equal
+ * factors, in O(1); keeping it up to date costs O(log n) per change.
+ */
+public final class FcaiReadyQueue {
+    private static final int NONE = -1;
+
+    private final ProcessTable table;
+    private final int[] previous;
+    private final int[] next;
+    private final IndexedMinHeap byFactor;
+    private int head = NONE;
+    private int tail = NONE;
+    private long firstSequence;
+    private long lastSequence = -1;
+
+    public FcaiReadyQueue(ProcessTable table) {
+        this.table = table;
+        this.previous = new int[table.size()];
+        this.next = new int[table.size()];
+        this.byFactor = new IndexedMinHeap(table.size());
+    }
+
+    public boolean isEmpty() {
+        return head == NONE;
+    }
+
+    public int size() {
+        return byFactor.size();
+    }
+
+    public int getFirst() {
+        return head;
+    }
+
+    public int getLast() {
+        return tail;
+    }
+
+    public void addFirst(int slot) {
+        previous[slot] = NONE;
+        next[slot] = head;
+        if (head == NONE) {
+            tail = slot;
+        } else {
+            previous[head] = slot;
+        }
+        head = slot;
+        index(slot, --firstSequence);
+    }
+
+    public void addLast(int slot) {
+        next[slot] = NONE;
+        previous[slot] = tail;
+        if (tail == NONE) {
+            head = slot;
+        } else {
+            next[tail] = slot;
+        }
+        tail = slot;
+        index(slot, ++lastSequence);
+    }
+
+    public int removeFirst() {
+        int slot = head;
+        remove(slot);
+        return slot;
+    }
+
+    public void remove(int slot) {
+        byFactor.remove(slot);
+        if (previous[slot] == NONE) {
+            head = next[slot];
+        } else {
+            next[previous[slot]] = next[slot];
+        }
+        if (next[slot] == NONE) {
+            tail = previous[slot];
+        } else {
+            previous[next[slot]] = previous[slot];
+        }
+    }
+
+    /**
+     * Takes the new FCAI factor of a queued process into account.
+     */
+    public void factorChanged(int slot) {
+        byFactor.changeKey(slot, factorKey(table.fcaiFactor(slot)));
+    }
+
+    /**
+     * The queued process with the lowest FCAI factor, the frontmost one among equal
+     * factors, if that factor is below {@code limit}; otherwise -1.
+     */
+    public int lowestFactorBelow(double limit) {
+        if (byFactor.isEmpty()) {
+            return NONE;
+        }
+        int slot = byFactor.peek();
+        return table.fcaiFactor(slot) < limit ? slot : NONE;
+    }
+
+    private void index(int slot, long order) {
+        byFactor.add(slot, factorKey(table.fcaiFactor(slot)), order);
+    }
+
+    /**
+     * A long that orders like the factor: negative doubles have their magnitude bits
+     * flipped, NaN comes after everything and -0.0 is taken as 0.0, as {@code <} does.
+     */
+    private static long factorKey(double factor) {
+        long bits = Double.doubleToLongBits(factor == 0 ? 0.0 : factor);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,295 @@
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.InputEvent;
+import java.awt.event.MouseWheelEvent;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+/**
+ * Zoomable Gantt chart of a {@link Timeline}.
+ * <p>
+ * The preferred size is worked out once, when the result or the zoom changes, never
+ * while painting. The chart is rendered into fixed-width image tiles that are kept in
+ * a memory-bounded {@link TileCache}, keyed by zoom, so scrolling over parts that were
+ * already seen only copies pixels.
+ * <p>
+ * While every time unit gets at least a pixel per level-0 bucket, a tile draws the
+ * slices themselves, found by binary search. Further out it draws buckets from a
+ * {@link TimelinePyramid}, picking the level whose buckets are about a pixel wide:
+ * the bar takes the colour of the dominant process, its height shows how busy the CPU
+ * was and a tick above it shows how many switches the bucket contains.
+ * <p>
+ * Ctrl + mouse wheel zooms around the pointer. The tile cache budget defaults to
+ * 64 MB and can be changed with the system property {@code scheduler.gantt.tileCacheMB}.
+ */
+public class GanttPanel extends JPanel {
+    private static final int TIME_SLOT_WIDTH = 30;
+    private static final int VERTICAL_OFFSET = 60;
+    private static final int PROCESS_HEIGHT = 50;
+    private static final int RIGHT_MARGIN = 30;
+    // labels are centred on a slice or printed at its edges and can reach this far
+    // into the neighbouring slices, so slices this close to a tile are drawn too
+    private static final int LABEL_MARGIN_PX = 60;
+    private static final int TILE_WIDTH = 512;
+    private static final long TILE_CACHE_BYTES = Long.getLong("scheduler.gantt.tileCacheMB", 64) << 20;
+    private static final double ZOOM_STEP = 1.5;
+    private static final double MAX_PIXELS_PER_UNIT = 200;
+
+    private final int initialWidth;
+    private final int height;
+    private final TileCache tiles = new TileCache(TILE_CACHE_BYTES);
+    private Timeline timeline;
+    private Workload workload;
+    private TimelinePyramid pyramid;
+    private double pixelsPerUnit = TIME_SLOT_WIDTH;
+    private double tileScale = 1;
+
+    public GanttPanel(int width, int height) {
+        this.initialWidth = width;
+        this.height = height;
+        setPreferredSize(new Dimension(width, height));
+        addMouseWheelListener(this::wheelMoved);
+    }
+
+    /**
+     * Shows {@code result}. Results never change once built, so the tiles of the
+     * previous one are simply dropped. A run too long for the visible width at the
+     * current zoom is zoomed to fit, rather than opening millions of pixels wide.
+     */
+    public void setResult(ScheduleResult result) {
+        this.timeline = result.getTimeline();
+        this.workload = result.getWorkload();
+        pyramid = null;
+        tiles.clear();
+        if (xOf(timeline.getMaxTime()) + RIGHT_MARGIN > visibleWidth()) {
+            zoomToFit();
+        }
+        updateExtent();
+    }
+
+    public double getPixelsPerUnit() {
+        return pixelsPerUnit;
+    }
+
+    /**
+     * Sets the zoom, in pixels per time unit, keeping {@code anchorX} (a panel
+     * coordinate) over the same point in time if the panel sits in a scroll pane.
+     */
+    public void setPixelsPerUnit(double pixelsPerUnit, int anchorX) {
+        pixelsPerUnit = Math.max(minPixelsPerUnit(), Math.min(MAX_PIXELS_PER_UNIT, pixelsPerUnit));
+        if (pixelsPerUnit == this.pixelsPerUnit) {
+            return;
+        }
+        double time = anchorX / this.pixelsPerUnit;
+        this.pixelsPerUnit = pixelsPerUnit;
+        updateExtent();
+
+        JViewport viewport = (JViewport) SwingUtilities.getAncestorOfClass(JViewport.class, this);
+        if (viewport != null) {
+            Point view = viewport.getViewPosition();
+            int newX = (int) Math.max(0, time * pixelsPerUnit - (anchorX - view.x));
+            viewport.setViewPosition(new Point(newX, view.y));
+        }
+    }
+
+    public void zoomIn() {
+        setPixelsPerUnit(pixelsPerUnit * ZOOM_STEP, visibleCentreX());
+    }
+
+    public void zoomOut() {
+        setPixelsPerUnit(pixelsPerUnit / ZOOM_STEP, visibleCentreX());
+    }
+
+    /**
+     * Zooms out so that the whole run fits the visible width.
+     */
+    public void zoomToFit() {
+        int width = visibleWidth();
+        if (timeline == null || timeline.getMaxTime() == 0 || width <= RIGHT_MARGIN) {
+            return;
+        }
+        setPixelsPerUnit((double) (width - RIGHT_MARGIN) / timeline.getMaxTime(), 0);
+    }
+
+    private void wheelMoved(MouseWheelEvent e) {
+        if ((e.getModifiersEx() & InputEvent.CTRL_DOWN_MASK) == 0) {
+            // plain wheel scrolls the enclosing scroll pane as usual
+            getParent().dispatchEvent(SwingUtilities.convertMouseEvent(this, e, getParent()));
+            return;
+        }
+        double factor = Math.pow(ZOOM_STEP, -e.getPreciseWheelRotation());
+        setPixelsPerUnit(pixelsPerUnit * factor, e.getX());
+    }
+
+    private double minPixelsPerUnit() {
+        // never narrower than one pixel for the whole run
+        return timeline == null || timeline.getMaxTime() == 0 ? 1e-9 : 1.0 / timeline.getMaxTime();
+    }
+
+    private int visibleWidth() {
+        // before the panel is first laid out, the width it was created with
+        Rectangle visible = getVisibleRect();
+        return visible.width > 0 ? visible.width : getWidth() > 0 ? getWidth() : initialWidth;
+    }
+
+    private int visibleCentreX() {
+        Rectangle visible = getVisibleRect();
+        return visible.x + visible.width / 2;
+    }
+
+    private void updateExtent() {
+        long graphWidth = (long) xOf(timeline == null ? 0 : timeline.getMaxTime()) + RIGHT_MARGIN;
+        setPreferredSize(new Dimension((int) Math.min(Integer.MAX_VALUE / 2, graphWidth), height));
+        revalidate();
+        repaint();
+    }
+
+    private double xOf(long time) {
+        return Math.floor(time * pixelsPerUnit);
+    }
+
+    private long tileKey(int tileIndex) {
+        return TileCache.key(Float.floatToIntBits((float) pixelsPerUnit), tileIndex);
+    }
+
+    private boolean drawsSlices() {
+        return pixelsPerUnit * pyramidOrBuild().getBaseBucketWidth() >= 1;
+    }
+
+    private TimelinePyramid pyramidOrBuild() {
+        if (pyramid == null) {
+            pyramid = new TimelinePyramid(timeline);
+        }
+        return pyramid;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        if (timeline == null) {
+            return;
+        }
+        Graphics2D g2 = (Graphics2D) g;
+        double scale = g2.getTransform().getScaleX();
+        if (scale != tileScale) {
+            // HiDPI scale changed (window moved to another screen): tiles are stale
+            tiles.clear();
+            tileScale = scale;
+        }
+
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        int firstTile = Math.max(0, clip.x / TILE_WIDTH);
+        int lastTile = (clip.x + clip.width - 1) / TILE_WIDTH;
+        for (int tileIndex = firstTile; tileIndex <= lastTile; tileIndex++) {
+            long key = tileKey(tileIndex);
+            BufferedImage tile = tiles.get(key);
+            if (tile == null || tile.getHeight() != (int) Math.ceil(getHeight() * scale)) {
+                tile = renderTile(g2, tileIndex, scale);
+                tiles.put(key, tile);
+            }
+            g.drawImage(tile, tileIndex * TILE_WIDTH, 0, TILE_WIDTH, getHeight(), null);
+        }
+    }
+
+    private BufferedImage renderTile(Graphics2D target, int tileIndex, double scale) {
+        int tileHeight = Math.max(1, getHeight());
+        GraphicsConfiguration configuration = target.getDeviceConfiguration();
+        int pixelWidth = (int) Math.ceil(TILE_WIDTH * scale);
+        int pixelHeight = (int) Math.ceil(tileHeight * scale);
+        BufferedImage tile = configuration != null
+                ? configuration.createCompatibleImage(pixelWidth, pixelHeight)
+                : new BufferedImage(pixelWidth, pixelHeight, BufferedImage.TYPE_INT_RGB);
+
+        Graphics2D g = tile.createGraphics();
+        try {
+            g.setRenderingHints(target.getRenderingHints());
+            g.setFont(getFont());
+            g.setColor(getBackground());
+            g.fillRect(0, 0, pixelWidth, pixelHeight);
+            g.transform(AffineTransform.getScaleInstance(scale, scale));
+            int tileX = tileIndex * TILE_WIDTH;
+            g.translate(-tileX, 0);
+            g.clipRect(tileX, 0, TILE_WIDTH, tileHeight);
+
+            if (drawsSlices()) {
+                drawSlices(g, tileX - LABEL_MARGIN_PX, tileX + TILE_WIDTH + LABEL_MARGIN_PX);
+            } else {
+                drawBuckets(g, tileX, tileX + TILE_WIDTH);
+            }
+        } finally {
+            g.dispose();
+        }
+        return tile;
+    }
+
+    private void drawSlices(Graphics2D g, int fromX, int toX) {
+        int fromTime = (int) Math.max(0, Math.floor(fromX / pixelsPerUnit));
+        int toTime = (int) Math.min(Integer.MAX_VALUE, Math.ceil(toX / pixelsPerUnit) + 1);
+        FontMetrics metrics = g.getFontMetrics();
+        int n = timeline.size();
+        for (int i = timeline.firstSliceEndingAfter(fromTime); i < n && timeline.startTime(i) < toTime; i++) {
+            drawSlice(g, metrics, i);
+        }
+    }
+
+    private void drawSlice(Graphics g, FontMetrics metrics, int slice) {
+        int startTime = timeline.startTime(slice);
+        int endTime = timeline.endTime(slice);
+        int startX = (int) xOf(startTime);
+        int width = Math.max(1, (int) xOf(endTime) - startX);
+
+        if (timeline.isContextSwitch(slice)) {
+            g.setColor(Color.GRAY);
+            g.fillRect(startX, VERTICAL_OFFSET + PROCESS_HEIGHT / 4, width, PROCESS_HEIGHT / 2);
+            return;
+        }
+        int process = timeline.processIndex(slice);
+
+        g.setColor(workload.color(process));
+        g.fillRect(startX, VERTICAL_OFFSET, width, PROCESS_HEIGHT);
+
+        // at the default zoom and above every slice is labelled as it always was;
+        // zoomed out only the slices with room for their name are
+        String processName = workload.name(process);
+        int nameWidth = metrics.stringWidth(processName);
+        if (pixelsPerUnit < TIME_SLOT_WIDTH && width < nameWidth) {
+            return;
+        }
+        g.setColor(Color.BLACK);
+        int textX = startX + width / 2 - nameWidth / 2;
+        int textY = VERTICAL_OFFSET + PROCESS_HEIGHT + 15;
+        g.drawString(processName, textX, textY);
+
+        g.drawString(String.valueOf(startTime), startX, VERTICAL_OFFSET - 10);
+        g.drawString(String.valueOf(endTime), startX + width, VERTICAL_OFFSET - 10);
+    }
+
+    private void drawBuckets(Graphics2D g, int fromX, int toX) {
+        TimelinePyramid summary = pyramidOrBuild();
+        int level = summary.levelFor(1 / pixelsPerUnit);
+        long bucketWidth = summary.bucketWidth(level);
+        int first = (int) Math.max(0, Math.floor(fromX / pixelsPerUnit) / bucketWidth);
+        int last = (int) Math.min(summary.bucketCount(level) - 1L, (long) (Math.ceil(toX / pixelsPerUnit) / bucketWidth));
+        for (int bucket = first; bucket <= last; bucket++) {
+            int x = (int) xOf(bucket * bucketWidth);
+            int width = Math.max(1, (int) xOf((bucket + 1) * bucketWidth) - x);
+            int process = summary.dominantProcess(level, bucket);
+            if (process == TimelinePyramid.NONE) {
+                continue;
+            }
+            int barHeight = Math.max(1, (int) Math.round(PROCESS_HEIGHT * (1 - summary.idleFraction(level, bucket))));
+            g.setColor(workload.color(process));
+            g.fillRect(x, VERTICAL_OFFSET + PROCESS_HEIGHT - barHeight, width, barHeight);
+
+            int switches = summary.switchCount(level, bucket);
+            if (switches > 0) {
+                g.setColor(Color.DARK_GRAY);
+                int tick = Math.min(10, 2 + switches);
+                g.fillRect(x, VERTICAL_OFFSET - tick - 2, width, tick);
+            }
+        }
+    }
+}
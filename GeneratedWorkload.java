@@ -0,0 +1,64 @@
+import java.awt.Color;
+
+/**
+ * {@link Workload} made by a {@link WorkloadModel}, kept as one int column per field.
+ * Process {@code i} has id {@code i + 1}, is named {@code P<id>} and takes its colour
+ * from the {@link Palette}; names are only made when asked for. That is four ints per
+ * process, where a list holds a spec and a name string for each.
+ */
+public final class GeneratedWorkload implements Workload {
+    private final int[] priority;
+    private final int[] arrivalTime;
+    private final int[] burstTime;
+    private final int[] quantum;
+
+    /**
+     * The arrays are indexed by process and are taken over, not copied.
+     */
+    GeneratedWorkload(int[] priority, int[] arrivalTime, int[] burstTime, int[] quantum) {
+        this.priority = priority;
+        this.arrivalTime = arrivalTime;
+        this.burstTime = burstTime;
+        this.quantum = quantum;
+    }
+
+    @Override
+    public int size() {
+        return priority.length;
+    }
+
+    @Override
+    public int id(int index) {
+        return index + 1;
+    }
+
+    @Override
+    public String name(int index) {
+        return "P" + (index + 1);
+    }
+
+    @Override
+    public Color color(int index) {
+        return Palette.get(index);
+    }
+
+    @Override
+    public int priority(int index) {
+        return priority[index];
+    }
+
+    @Override
+    public int arrivalTime(int index) {
+        return arrivalTime[index];
+    }
+
+    @Override
+    public int burstTime(int index) {
+        return burstTime[index];
+    }
+
+    @Override
+    public int quantum(int index) {
+        return quantum[index];
+    }
+}
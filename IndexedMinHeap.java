@@ -0,0 +1,182 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Binary min-heap over the items {@code 0..capacity-1} with primitive {@code long} keys.
+ * <p>
+ * Every item remembers its slot in the heap, so the key of an item that is already
+ * queued can be lowered or raised in O(log n) instead of rebuilding the whole queue.
+ * Items with equal keys come out in ascending item order, or by a secondary tie-break
+ * key when they were added with one.
+ */
+public final class IndexedMinHeap {
+    private final int[] heap;
+    private final int[] position;
+    private final long[] keys;
+    // only allocated once an item is added with a tie-break
+    private long[] ties;
+    private int size;
+
+    public IndexedMinHeap(int capacity) {
+        heap = new int[capacity];
+        position = new int[capacity];
+        keys = new long[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int item) {
+        return position[item] >= 0;
+    }
+
+    /**
+     * Returns the item stored at {@code index} in heap order, for {@code 0 <= index < size()}.
+     */
+    public int get(int index) {
+        return heap[index];
+    }
+
+    public long key(int item) {
+        return keys[item];
+    }
+
+    public void add(int item, long key) {
+        insert(item, key, 0);
+    }
+
+    /**
+     * Adds {@code item}; among equal keys, items come out by ascending {@code tieBreak}.
+     * Items added without one count as tie-break 0.
+     */
+    public void add(int item, long key, long tieBreak) {
+        if (ties == null) {
+            ties = new long[keys.length];
+        }
+        insert(item, key, tieBreak);
+    }
+
+    public int peek() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return heap[0];
+    }
+
+    public long peekKey() {
+        return keys[peek()];
+    }
+
+    public int poll() {
+        int item = peek();
+        removeAt(0);
+        return item;
+    }
+
+    public void remove(int item) {
+        if (!contains(item)) {
+            throw new NoSuchElementException("Item " + item + " is not in the heap");
+        }
+        removeAt(position[item]);
+    }
+
+    public void decreaseKey(int item, long key) {
+        if (key > keys[item]) {
+            throw new IllegalArgumentException("New key " + key + " is larger than " + keys[item]);
+        }
+        keys[item] = key;
+        siftUp(position[item]);
+    }
+
+    public void increaseKey(int item, long key) {
+        if (key < keys[item]) {
+            throw new IllegalArgumentException("New key " + key + " is smaller than " + keys[item]);
+        }
+        keys[item] = key;
+        siftDown(position[item]);
+    }
+
+    public void changeKey(int item, long key) {
+        if (key < keys[item]) {
+            decreaseKey(item, key);
+        } else {
+            increaseKey(item, key);
+        }
+    }
+
+    private void insert(int item, long key, long tieBreak) {
+        if (contains(item)) {
+            throw new IllegalArgumentException("Item " + item + " is already in the heap");
+        }
+        keys[item] = key;
+        if (ties != null) {
+            ties[item] = tieBreak;
+        }
+        heap[size] = item;
+        position[item] = size;
+        siftUp(size++);
+    }
+
+    private void removeAt(int index) {
+        int item = heap[index];
+        int last = heap[--size];
+        position[item] = -1;
+        if (index == size) {
+            return;
+        }
+        heap[index] = last;
+        position[last] = index;
+        siftDown(index);
+        siftUp(position[last]);
+    }
+
+    private boolean less(int a, int b) {
+        if (keys[a] != keys[b]) {
+            return keys[a] < keys[b];
+        }
+        if (ties != null && ties[a] != ties[b]) {
+            return ties[a] < ties[b];
+        }
+        return a < b;
+    }
+
+    private void siftUp(int index) {
+        int item = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!less(item, heap[parent])) {
+                break;
+            }
+            heap[index] = heap[parent];
+            position[heap[index]] = index;
+            index = parent;
+        }
+        heap[index] = item;
+        position[item] = index;
+    }
+
+    private void siftDown(int index) {
+        int item = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && less(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!less(heap[child], item)) {
+                break;
+            }
+            heap[index] = heap[child];
+            position[heap[index]] = index;
+            index = child;
+        }
+        heap[index] = item;
+        position[item] = index;
+    }
+}
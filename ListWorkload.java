@@ -0,0 +1,66 @@
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link Workload} over a list of {@link ProcessSpec}s, for workloads entered by hand
+ * or loaded from CSV or JSON. See {@link Workload#of}.
+ */
+final class ListWorkload implements Workload {
+    private final List<ProcessSpec> processes;
+
+    ListWorkload(List<ProcessSpec> processes) {
+        this.processes = Collections.unmodifiableList(new ArrayList<>(processes));
+    }
+
+    @Override
+    public int size() {
+        return processes.size();
+    }
+
+    @Override
+    public int id(int index) {
+        return processes.get(index).getId();
+    }
+
+    @Override
+    public String name(int index) {
+        return processes.get(index).getName();
+    }
+
+    @Override
+    public Color color(int index) {
+        return processes.get(index).getColor();
+    }
+
+    @Override
+    public int priority(int index) {
+        return processes.get(index).getPriority();
+    }
+
+    @Override
+    public int arrivalTime(int index) {
+        return processes.get(index).getArrivalTime();
+    }
+
+    @Override
+    public int burstTime(int index) {
+        return processes.get(index).getBurstTime();
+    }
+
+    @Override
+    public int quantum(int index) {
+        return processes.get(index).getQuantum();
+    }
+
+    @Override
+    public ProcessSpec get(int index) {
+        return processes.get(index);
+    }
+
+    @Override
+    public List<ProcessSpec> asList() {
+        return processes;
+    }
+}
@@ -1,22 +1,40 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
 import javax.swing.*;
 import java.awt.Color;
+import java.awt.GraphicsEnvironment;
 
+/**
+ * Console front end. The workload is read on the main thread; with a display the
+ * simulation then runs on a {@link SimulationWorker} behind a {@link ProgressWindow}
+ * and the result is shown on the event dispatch thread. Setting the system property {@code scheduler.trace} to a file name
+ * writes a binary trace of the run there, which menu option 7 can replay later.
+ */
 public class Main {
+    private static final String TRACE_FILE = System.getProperty("scheduler.trace");
+
     public static void main(String[] args) {
-        SwingUtilities.invokeLater(new Runnable() {
-            @Override
-            public void run() {
-                runProcessInput();
-            }
-        });
+        runProcessInput();
     }
 
     public static void runProcessInput() {
+        boolean headless = GraphicsEnvironment.isHeadless();
         Scanner scanner = new Scanner(System.in);
 
-        ArrayList<Process> processes = new ArrayList<>();
+        ArrayList<ProcessSpec> processes = new ArrayList<>();
+        Workload loaded = null;
         System.out.println("CPU Scheduling Program");
         System.out.println("=======================");
         System.out.println("1. First Come First Serve (FCFS)");
@@ -24,16 +42,39 @@ public class Main {
         System.out.println("3. Shortest Remaining Time First (SRTF)");
         System.out.println("4. Priority Scheduling");
         System.out.println("5. FCAI Scheduler");
+        System.out.println("6. Compare all algorithms");
+        System.out.println("7. Replay a trace file");
+        System.out.println("8. Parameter sweep");
+        System.out.println("9. Monte Carlo replications");
         System.out.print("Enter the number of the scheduling algorithm you want to use: ");
 
         int choice = scanner.nextInt();
         scanner.nextLine();
 
-        System.out.print("Enter the number of processes: ");
-        int numberOfProcesses = scanner.nextInt();
+        if (choice == 7) {
+            System.out.print("Trace file: ");
+            String file = scanner.nextLine().trim();
+            scanner.close();
+            replay(Paths.get(file), headless);
+            return;
+        }
+
+        if (choice == 9) {
+            runReplications(scanner);
+            scanner.close();
+            return;
+        }
+
+        System.out.print("Workload (1 = enter by hand, 2 = generate, 3 = load from a CSV, JSON or .wkl file): ");
+        int source = scanner.nextInt();
+        int numberOfProcesses = 0;
+        if (source != 3) {
+            System.out.print("Enter the number of processes: ");
+            numberOfProcesses = scanner.nextInt();
+        }
 
         int contextSwitchTime = 0;
-        if (choice == 3 || choice == 4) {
+        if (choice == 3 || choice == 4 || choice == 6) {
             System.out.print("Enter context switching time: ");
             contextSwitchTime = scanner.nextInt();
             if (contextSwitchTime < 0) {
@@ -41,10 +82,25 @@ public class Main {
 
             }
         }
+        boolean preemptive = choice == 4 && readPreemptive(scanner);
+        if (source == 2) {
+            loaded = readSyntheticWorkload(scanner, numberOfProcesses);
+        } else if (source == 3) {
+            System.out.print("Workload file: ");
+            String file = scanner.next();
+            try {
+                loaded = WorkloadLoader.open(Paths.get(file));
+            } catch (IOException e) {
+                System.out.println("Could not load workload: " + e.getMessage());
+                return;
+            }
+            System.out.println("Loaded " + loaded.size() + " processes");
+        }
+
         int priority = 0;
         int quantum = 0;
 
-        for (int i = 0; i < numberOfProcesses; i++) {
+        for (int i = 0; source == 1 && i < numberOfProcesses; i++) {
             System.out.println("Enter details for Process " + (i + 1) + ":");
             System.out.print("ID: ");
             int id = scanner.nextInt();
@@ -55,7 +111,7 @@ public class Main {
             System.out.print("Priority: ");
             priority = scanner.nextInt();
 
-            if (choice == 5) {
+            if (choice == 5 || choice == 6 || choice == 8) {
                 System.out.print("Quantum: ");
                 quantum = scanner.nextInt();
             }
@@ -64,72 +120,322 @@ public class Main {
             int arrivalTime = scanner.nextInt();
             System.out.print("Burst Time: ");
             int burstTime = scanner.nextInt();
-            System.out.println("Color for Process " + (i + 1) + ":");
-            Color color = JColorChooser.showDialog(null, "Select Color for process" + i, Color.RED);
+            Color color = null;
+            if (!headless) {
+                System.out.println("Color for Process " + (i + 1) + ":");
+                color = chooseColor(i);
+            }
 
-            processes.add(new Process(id, name, color != null ? color : Color.BLACK, priority, arrivalTime, burstTime, quantum));
+            processes.add(new ProcessSpec(id, name, color != null ? color : Color.BLACK, priority, arrivalTime, burstTime, quantum));
+        }
+        Workload workload = loaded != null ? loaded : Workload.of(processes);
+
+        if (choice == 8) {
+            ParameterSweep sweep;
+            try {
+                sweep = readSweep(scanner);
+            } catch (IllegalArgumentException e) {
+                System.out.println(e.getMessage());
+                return;
+            }
+            System.out.print("CSV file (- for none): ");
+            String csvFile = scanner.next();
+            scanner.close();
+            runSweep(sweep, workload, csvFile.equals("-") ? null : Paths.get(csvFile), headless);
+            return;
         }
 
         scanner.close();
 
-        Scheduler scheduler;
-        String s = " ";
+        if (choice == 6) {
+            long start = System.nanoTime();
+            List<ScheduleResult> results = AlgorithmComparison.run(AlgorithmComparison.allEngines(contextSwitchTime), workload);
+            System.out.print(AlgorithmComparison.formatTable(results));
+            results.forEach(ScheduleResult::close);
+            System.out.println("Compared in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+            return;
+        }
+
+        SchedulingEngine engine = engineFor(choice, contextSwitchTime, preemptive);
+        if (engine == null) {
+            System.out.println("Invalid choice. Exiting program.");
+            return;
+        }
+
+        TraceWriter trace = null;
+        if (TRACE_FILE != null) {
+            try {
+                trace = new TraceWriter(Paths.get(TRACE_FILE), engine.getName(), workload);
+            } catch (IOException e) {
+                System.out.println("Could not write trace " + TRACE_FILE + ": " + e.getMessage());
+                return;
+            }
+        }
+
+        if (headless) {
+            ScheduleResult result;
+            if (trace == null) {
+                result = engine.run(workload);
+            } else {
+                try (TraceWriter writer = trace) {
+                    result = engine.run(workload, writer);
+                    writer.finish(result);
+                } catch (IOException e) {
+                    System.out.println("Could not write trace " + TRACE_FILE + ": " + e.getMessage());
+                    return;
+                }
+            }
+            show(result, null, engine.getName());
+        } else {
+            TraceWriter runTrace = trace;
+            SwingUtilities.invokeLater(() -> runInBackground(engine, workload, runTrace));
+        }
+    }
+
+    private static Workload readSyntheticWorkload(Scanner scanner, int processCount) {
+        System.out.print("Mean arrivals per time unit: ");
+        SyntheticWorkloadModel model = new SyntheticWorkloadModel(processCount, scanner.nextDouble());
+        System.out.print("Arrivals (1 = Poisson, 2 = bursty): ");
+        if (scanner.nextInt() == 2) {
+            System.out.print("Burstiness (peak to mean rate) and mean burst length: ");
+            model.setBurstyArrivals(scanner.nextDouble(), scanner.nextDouble());
+        }
+        System.out.print("Burst times (1 = Pareto, 2 = lognormal): ");
+        SyntheticWorkloadModel.BurstDistribution distribution = scanner.nextInt() == 2
+                ? SyntheticWorkloadModel.BurstDistribution.LOGNORMAL
+                : SyntheticWorkloadModel.BurstDistribution.PARETO;
+        System.out.print("Mean burst time and shape (Pareto tail index or lognormal sigma): ");
+        model.setBurstDistribution(distribution, scanner.nextDouble(), scanner.nextDouble());
+        System.out.print("Number of priority levels: ");
+        double[] weights = new double[scanner.nextInt()];
+        Arrays.fill(weights, 1);
+        model.setPriorityWeights(weights);
+        System.out.print("Quantum range (min max): ");
+        model.setQuantumRange(scanner.nextInt(), scanner.nextInt());
+        System.out.print("Seed: ");
+        return model.generateWorkload(scanner.nextLong());
+    }
+
+    private static boolean readPreemptive(Scanner scanner) {
+        System.out.print("Preemptive priority (1 = yes, 0 = no): ");
+        return scanner.nextInt() == 1;
+    }
+
+    private static SchedulingEngine engineFor(int choice, int contextSwitchTime, boolean preemptive) {
         switch (choice) {
             case 1:
-                scheduler = new FCFSScheduler(processes);
-                scheduler.setVisible(true);
-                s = "FCFS";
-                break;
+                return new FCFSEngine();
             case 2:
-                scheduler = new SJFScheduler(processes);
-                scheduler.setVisible(true);
-                s = "SJF";
-                break;
+                return new SJFEngine();
             case 3:
-                scheduler = new SRTFSchedulerGui(processes, contextSwitchTime);
-                scheduler.setVisible(true);
-                s = "SRTF";
-                break;
+                return new SRTFEngine(contextSwitchTime);
             case 4:
-                scheduler = new PriorityScheduler(processes, contextSwitchTime);
-                scheduler.setVisible(true);
-                s = "Priority";
-                break;
+                return new PriorityEngine(contextSwitchTime, preemptive);
             case 5:
-                scheduler = new FCAIScheduler(processes);
-                scheduler.setVisible(true);
-                s = "FCAI";
-                break;
-
+                return new FCAIEngine();
             default:
-                System.out.println("Invalid choice. Exiting program.");
+                return null;
+        }
+    }
+
+    private static void runReplications(Scanner scanner) {
+        System.out.print("Algorithm to replicate (1-5): ");
+        int algorithm = scanner.nextInt();
+        int contextSwitchTime = 0;
+        if (algorithm == 3 || algorithm == 4) {
+            System.out.print("Enter context switching time: ");
+            contextSwitchTime = scanner.nextInt();
+        }
+        boolean preemptive = algorithm == 4 && readPreemptive(scanner);
+        SchedulingEngine engine = engineFor(algorithm, contextSwitchTime, preemptive);
+        if (engine == null) {
+            System.out.println("Invalid choice. Exiting program.");
+            return;
+        }
+        System.out.print("Processes per replication: ");
+        int processCount = scanner.nextInt();
+        System.out.print("Largest gap between arrivals: ");
+        int maxArrivalGap = scanner.nextInt();
+        System.out.print("Burst time range (min max): ");
+        int minBurst = scanner.nextInt();
+        int maxBurst = scanner.nextInt();
+        System.out.print("Highest priority value: ");
+        int maxPriority = scanner.nextInt();
+        System.out.print("Quantum range (min max): ");
+        int minQuantum = scanner.nextInt();
+        int maxQuantum = scanner.nextInt();
+        System.out.print("Replications: ");
+        int replications = scanner.nextInt();
+        System.out.print("Seed: ");
+        long seed = scanner.nextLong();
+
+        WorkloadModel model = new RandomWorkloadModel(processCount, maxArrivalGap, minBurst, maxBurst,
+                maxPriority, minQuantum, maxQuantum);
+        long start = System.nanoTime();
+        MonteCarloRunner.Summary summary = MonteCarloRunner.run(engine, model, replications, seed);
+        System.out.println(replications + " replications of " + engine.getName() + " in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+        printStatistic("AWT", summary.getAverageWaitingTime());
+        printStatistic("ATAT", summary.getAverageTurnaroundTime());
+        printStatistic("Makespan", summary.getMakespan());
+    }
+
+    private static void printStatistic(String name, RunningStatistics statistics) {
+        System.out.printf("%-9s mean %.4f  95%% CI [%.4f, %.4f]  sd %.4f%n", name, statistics.getMean(),
+                statistics.getMean() - statistics.getConfidenceHalfWidth95(),
+                statistics.getMean() + statistics.getConfidenceHalfWidth95(),
+                statistics.getStandardDeviation());
+    }
+
+    private static ParameterSweep readSweep(Scanner scanner) {
+        ParameterSweep sweep = new ParameterSweep();
+        System.out.println("Enter each range as: start end step, with a positive step (start start 1 gives just start)");
+        System.out.print("FCAI quantum (0 keeps each process's own): ");
+        sweep.setQuanta(ParameterSweep.range(scanner.nextInt(), scanner.nextInt(), scanner.nextInt()));
+        System.out.print("FCAI quantum split: ");
+        sweep.setQuantumSplits(ParameterSweep.range(scanner.nextDouble(), scanner.nextDouble(), scanner.nextDouble()));
+        System.out.print("FCAI V1 divisor: ");
+        sweep.setV1Divisors(ParameterSweep.range(scanner.nextDouble(), scanner.nextDouble(), scanner.nextDouble()));
+        System.out.print("FCAI V2 divisor: ");
+        sweep.setV2Divisors(ParameterSweep.range(scanner.nextDouble(), scanner.nextDouble(), scanner.nextDouble()));
+        System.out.print("Context switching time: ");
+        sweep.setContextSwitchTimes(ParameterSweep.range(scanner.nextInt(), scanner.nextInt(), scanner.nextInt()));
+        System.out.print("Aging threshold: ");
+        sweep.setAgingThresholds(ParameterSweep.range(scanner.nextInt(), scanner.nextInt(), scanner.nextInt()));
+        return sweep;
+    }
+
+    private static void runSweep(ParameterSweep sweep, Workload workload, Path csvFile, boolean headless) {
+        int total = sweep.size();
+        System.out.println("Running " + total + " configurations...");
+        Map<String, SweepResult> best = new ConcurrentHashMap<>();
+        Consumer<SweepResult> results = result -> best.merge(result.getAlgorithm(), result,
+                (a, b) -> b.getAverageWaitingTime() < a.getAverageWaitingTime() ? b : a);
+        if (!headless) {
+            SweepFrame[] frame = new SweepFrame[1];
+            try {
+                SwingUtilities.invokeAndWait(() -> {
+                    frame[0] = new SweepFrame(total);
+                    frame[0].setVisible(true);
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
                 return;
+            } catch (InvocationTargetException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+            results = results.andThen(frame[0]);
         }
 
-        scheduler.execute();
+        long start = System.nanoTime();
+        if (csvFile != null) {
+            try (SweepCsvWriter csv = new SweepCsvWriter(csvFile)) {
+                sweep.run(workload, results.andThen(csv));
+            } catch (IOException | UncheckedIOException e) {
+                System.out.println("Could not write " + csvFile + ": " + e.getMessage());
+                return;
+            }
+        } else {
+            sweep.run(workload, results);
+        }
+        System.out.println("Swept in " + (System.nanoTime() - start) / 1_000_000 + " ms. Lowest AWT per algorithm:");
+        for (String algorithm : new String[]{"FCFS", "SJF", "SRTF", "Priority", "FCAI"}) {
+            SweepResult result = best.get(algorithm);
+            if (result == null) {
+                System.out.printf("%-10s no successful runs%n", algorithm);
+                continue;
+            }
+            System.out.printf("%-10s AWT %.2f  ATAT %.2f  (%s)%n", algorithm, result.getAverageWaitingTime(),
+                    result.getAverageTurnaroundTime(), result.describeParameters());
+        }
+    }
+
+    private static Color chooseColor(int i) {
+        Color[] chosen = new Color[1];
+        try {
+            SwingUtilities.invokeAndWait(() -> chosen[0] = JColorChooser.showDialog(null, "Select Color for process" + i, Color.RED));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        return chosen[0];
+    }
+
+    private static void runInBackground(SchedulingEngine engine, Workload workload, TraceWriter trace) {
+        ProgressWindow window = new ProgressWindow(engine.getName(), workload.size());
+        SimulationWorker worker = new SimulationWorker(engine, workload, trace, window::update) {
+            @Override
+            protected void done() {
+                window.dispose();
+                try {
+                    ScheduleResult result = get();
+                    show(result, viewerFor(engine.getName(), workload), engine.getName());
+                } catch (CancellationException e) {
+                    System.out.println("Simulation cancelled.");
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    System.out.println("Simulation failed: " + e.getCause());
+                }
+            }
+        };
+        window.attach(worker);
+        window.setVisible(true);
+        worker.execute();
+    }
+
+    private static void replay(Path file, boolean headless) {
+        ScheduleResult result;
+        try {
+            result = TraceReplayer.load(file);
+        } catch (IOException e) {
+            System.out.println("Could not read trace " + file + ": " + e.getMessage());
+            return;
+        }
+        if (headless) {
+            show(result, null, result.getAlgorithm());
+        } else {
+            SwingUtilities.invokeLater(() -> show(result, viewerFor(result.getAlgorithm(), result.getWorkload()), result.getAlgorithm()));
+        }
+    }
+
+    private static Scheduler viewerFor(String algorithm, Workload workload) {
+        switch (algorithm) {
+            case "SJF":
+                return new SJFScheduler(workload);
+            case "SRTF":
+                return new SRTFSchedulerGui(workload);
+            case "Priority":
+            case "Priority (preemptive)":
+                return new PriorityScheduler(workload);
+            case "FCAI":
+                return new FCAIScheduler(workload);
+            default:
+                return new FCFSScheduler();
+        }
+    }
+
+    private static void show(ScheduleResult result, Scheduler scheduler, String s) {
             System.out.println("+----------+-----------------+------------+-------------------+");
             System.out.println("| Process  | Completion Time | Turnaround Time | Waiting Time |");
             System.out.println("+----------+-----------------+------------+----------------+--+");
 
-            for (Process process : processes) {
-                if (process.getWaitingTime() < 0) process.setWaitingTime(0);
-                System.out.println("| P" + process.getId() +
-                        "              | " + process.getCompletionTime() +
-                        "              | " + process.getTurnaroundTime() +
-                        "              | " + process.getWaitingTime() + "           |");
+            for (int i = 0; i < result.size(); i++) {
+                System.out.println("| P" + result.getWorkload().id(i) +
+                        "              | " + result.getCompletionTime(i) +
+                        "              | " + result.getTurnaroundTime(i) +
+                        "              | " + result.getWaitingTime(i) + "           |");
             }
             System.out.println("+----------+--------------+------------+----------------+----------+");
 
-        int totalWaitingTime = 0;
-        int totalTurnaroundTime = 0;
-        for (Process process : processes) {
-            totalWaitingTime += process.getWaitingTime();
-            totalTurnaroundTime += process.getTurnaroundTime();
+        double AWT = result.getAverageWaitingTime();
+        double ATAT = result.getAverageTurnaroundTime();
+        if (scheduler != null) {
+            scheduler.showResult(result);
+            scheduler.setVisible(true);
+            scheduler.updateExecutionHistory();
+            scheduler.updateStatistics(s, result.size(), AWT, ATAT);
         }
-
-        double AWT = (double) totalWaitingTime / processes.size();
-        double ATAT = (double) totalTurnaroundTime / processes.size();
-        scheduler.updateExecutionHistory();
-        scheduler.updateStatistics(s, numberOfProcesses, AWT, ATAT);
     }
 }
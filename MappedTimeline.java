@@ -0,0 +1,129 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link Timeline} stored in a memory-mapped file, so a run with tens of millions of
+ * slices does not have to fit in the Java heap. The file is mapped in fixed-size
+ * chunks of 12-byte records (process index, start, end) and grows one chunk at a time.
+ */
+public final class MappedTimeline extends Timeline implements Closeable {
+    private static final int INTS_PER_SLICE = 3;
+    private static final int CHUNK_SHIFT = 20;
+    private static final int CHUNK_SLICES = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SLICES - 1;
+    private static final long CHUNK_BYTES = (long) CHUNK_SLICES * INTS_PER_SLICE * Integer.BYTES;
+
+    private final Path file;
+    private final boolean deleteOnClose;
+    private final FileChannel channel;
+    private final List<IntBuffer> chunks = new ArrayList<>();
+    private int size;
+
+    public MappedTimeline(Path file) throws IOException {
+        this(file, false);
+    }
+
+    private MappedTimeline(Path file, boolean deleteOnClose) throws IOException {
+        this.file = file;
+        this.deleteOnClose = deleteOnClose;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Creates a timeline backed by a temporary file. The file is unlinked as soon as it
+     * is open, so nothing is left on disk even if the timeline is never closed; closing
+     * it releases the channel and the space. Where an open file cannot be deleted, it is
+     * removed on close or at exit instead.
+     */
+    public static MappedTimeline createTemporary() throws IOException {
+        Path file = Files.createTempFile("timeline", ".bin");
+        MappedTimeline timeline;
+        try {
+            timeline = new MappedTimeline(file, true);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        try {
+            Files.delete(file);
+        } catch (IOException e) {
+            file.toFile().deleteOnExit();
+        }
+        return timeline;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int processIndex(int slice) {
+        return chunk(slice).get(offset(slice));
+    }
+
+    @Override
+    public int startTime(int slice) {
+        return chunk(slice).get(offset(slice) + 1);
+    }
+
+    @Override
+    public int endTime(int slice) {
+        return chunk(slice).get(offset(slice) + 2);
+    }
+
+    @Override
+    public void append(int processIndex, int startTime, int endTime) {
+        if ((size >>> CHUNK_SHIFT) == chunks.size()) {
+            mapChunk();
+        }
+        IntBuffer chunk = chunk(size);
+        int offset = offset(size);
+        chunk.put(offset, processIndex);
+        chunk.put(offset + 1, startTime);
+        chunk.put(offset + 2, endTime);
+        size++;
+    }
+
+    @Override
+    void setEndTime(int slice, int endTime) {
+        chunk(slice).put(offset(slice) + 2, endTime);
+    }
+
+    @Override
+    public void close() throws IOException {
+        chunks.clear();
+        channel.close();
+        if (deleteOnClose) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private IntBuffer chunk(int slice) {
+        return chunks.get(slice >>> CHUNK_SHIFT);
+    }
+
+    private static int offset(int slice) {
+        return (slice & CHUNK_MASK) * INTS_PER_SLICE;
+    }
+
+    private void mapChunk() {
+        try {
+            long position = chunks.size() * CHUNK_BYTES;
+            chunks.add(channel.map(FileChannel.MapMode.READ_WRITE, position, CHUNK_BYTES)
+                    .order(ByteOrder.nativeOrder()).asIntBuffer());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not grow timeline file " + file, e);
+        }
+    }
+}
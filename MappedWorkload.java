@@ -0,0 +1,357 @@
+import java.awt.Color;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Workload in a compact binary file that is opened with {@link FileChannel#map}, so
+ * even a very large workload opens quickly and its fields are read straight from the
+ * mapped pages. Opening reads only the name offsets, to check that every name lies
+ * inside the name bytes.
+ * <p>
+ * The file is a header followed by one column per field, all little-endian:
+ * <pre>
+ * header   magic (int), version (int), process count (int), reserved (int)
+ * columns  id, priority, arrival, burst, quantum: count ints each
+ * names    count + 1 int offsets into the name bytes, then the UTF-8 name bytes
+ * </pre>
+ * Names are only decoded when asked for and colours come from the {@link Palette}, so
+ * engines run the workload straight from the mapped columns. Files are written with
+ * {@link #write} or converted from a CSV or JSON workload with {@link #convert}, also
+ * available from the command line: {@code java MappedWorkload workload.csv workload.wkl}.
+ */
+public final class MappedWorkload implements Workload, Closeable {
+    private static final int MAGIC = 0x53434857; // "SCHW"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 * Integer.BYTES;
+    private static final int COLUMNS = 5;
+
+    private final FileChannel channel;
+    private final int size;
+    private final IntBuffer ids;
+    private final IntBuffer priorities;
+    private final IntBuffer arrivalTimes;
+    private final IntBuffer burstTimes;
+    private final IntBuffer quanta;
+    private final IntBuffer nameOffsets;
+    private final ByteBuffer names;
+
+    private MappedWorkload(FileChannel channel) throws IOException {
+        this.channel = channel;
+        long fileSize = channel.size();
+        if (fileSize < HEADER_BYTES) {
+            throw new IOException("not a binary workload: too short");
+        }
+        ByteBuffer header = map(0, HEADER_BYTES);
+        if (header.getInt() != MAGIC) {
+            throw new IOException("not a binary workload");
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new IOException("unsupported binary workload version " + version);
+        }
+        size = header.getInt();
+        long columnBytes = (long) size * Integer.BYTES;
+        long namesStart = HEADER_BYTES + COLUMNS * columnBytes;
+        long nameDataStart = namesStart + columnBytes + Integer.BYTES;
+        if (size < 0 || fileSize < nameDataStart) {
+            throw new IOException("binary workload is truncated");
+        }
+
+        ids = map(HEADER_BYTES, columnBytes).asIntBuffer();
+        priorities = map(HEADER_BYTES + columnBytes, columnBytes).asIntBuffer();
+        arrivalTimes = map(HEADER_BYTES + 2 * columnBytes, columnBytes).asIntBuffer();
+        burstTimes = map(HEADER_BYTES + 3 * columnBytes, columnBytes).asIntBuffer();
+        quanta = map(HEADER_BYTES + 4 * columnBytes, columnBytes).asIntBuffer();
+        nameOffsets = map(namesStart, columnBytes + Integer.BYTES).asIntBuffer();
+        long nameBytes = nameOffsets.get(size) & 0xFFFFFFFFL;
+        if (fileSize < nameDataStart + nameBytes) {
+            throw new IOException("binary workload is truncated");
+        }
+        names = map(nameDataStart, nameBytes);
+        checkNameOffsets();
+    }
+
+    // reads every offset once, so a corrupt file fails here rather than in name()
+    private void checkNameOffsets() throws IOException {
+        int previous = nameOffsets.get(0);
+        if (previous != 0) {
+            throw new IOException("binary workload has a bad name offset at 0");
+        }
+        for (int i = 1; i <= size; i++) {
+            int offset = nameOffsets.get(i);
+            if (offset < previous || offset > names.limit()) {
+                throw new IOException("binary workload has a bad name offset at " + i);
+            }
+            previous = offset;
+        }
+    }
+
+    public static MappedWorkload open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new MappedWorkload(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int id(int index) {
+        return ids.get(index);
+    }
+
+    @Override
+    public int priority(int index) {
+        return priorities.get(index);
+    }
+
+    @Override
+    public int arrivalTime(int index) {
+        return arrivalTimes.get(index);
+    }
+
+    @Override
+    public int burstTime(int index) {
+        return burstTimes.get(index);
+    }
+
+    @Override
+    public int quantum(int index) {
+        return quanta.get(index);
+    }
+
+    @Override
+    public String name(int index) {
+        int start = nameOffsets.get(index);
+        int end = nameOffsets.get(index + 1);
+        byte[] bytes = new byte[end - start];
+        names.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Color color(int index) {
+        return Palette.get(index);
+    }
+
+    /**
+     * Creates a {@link ProcessSpec} for every entry, coloured from the {@link Palette}.
+     */
+    public List<ProcessSpec> toProcesses() {
+        List<ProcessSpec> processes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            processes.add(new ProcessSpec(id(i), name(i), Palette.get(i), priority(i), arrivalTime(i),
+                    burstTime(i), quantum(i)));
+        }
+        return processes;
+    }
+
+    @Override
+    public void close() throws IOException {
+        // the mappings stay valid until they are garbage collected
+        channel.close();
+    }
+
+    public static void write(Path file, List<ProcessSpec> processes) throws IOException {
+        try (Writer writer = new Writer(file)) {
+            for (ProcessSpec p : processes) {
+                writer.add(p.getId(), p.getName(), p.getPriority(), p.getArrivalTime(), p.getBurstTime(),
+                        p.getQuantum());
+            }
+            writer.finish();
+        }
+    }
+
+    /**
+     * Converts a CSV or JSON workload (see {@link WorkloadLoader}) to the binary format.
+     * Rows go from the parser straight to the column files, so the workload is never
+     * held in memory.
+     */
+    public static void convert(Path from, Path to) throws IOException {
+        try (Writer writer = new Writer(to)) {
+            WorkloadLoader.read(from, writer::add);
+            writer.finish();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.out.println("Usage: java MappedWorkload <workload.csv|workload.json> <workload.wkl>");
+            return;
+        }
+        long start = System.nanoTime();
+        convert(Paths.get(args[0]), Paths.get(args[1]));
+        System.out.println("Converted in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
+    private ByteBuffer map(long position, long length) throws IOException {
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("binary workload column larger than 2 GB");
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static void ensureRoom(FileChannel out, ByteBuffer buffer, int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush(out, buffer);
+        }
+    }
+
+    private static void flush(FileChannel out, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Writes a file row by row. The columns are appended to temporary files next to the
+     * target, which are deleted when closed, and are copied behind the header once the
+     * row count is known. Each name is encoded once and its end offset noted as it goes.
+     */
+    private static final class Writer implements Closeable {
+        private final Path file;
+        private final Column[] columns = new Column[COLUMNS];
+        private final Column offsets;
+        private final Column names;
+        private int size;
+        private long nameBytes;
+
+        Writer(Path file) throws IOException {
+            this.file = file;
+            Path directory = file.toAbsolutePath().getParent();
+            try {
+                for (int i = 0; i < COLUMNS; i++) {
+                    columns[i] = new Column(directory);
+                }
+                offsets = new Column(directory);
+                names = new Column(directory);
+            } catch (IOException | RuntimeException e) {
+                close();
+                throw e;
+            }
+            offsets.putInt(0);
+        }
+
+        void add(int id, String name, int priority, int arrivalTime, int burstTime, int quantum) throws IOException {
+            if (size == Integer.MAX_VALUE) {
+                throw new IOException("more than " + Integer.MAX_VALUE + " processes");
+            }
+            columns[0].putInt(id);
+            columns[1].putInt(priority);
+            columns[2].putInt(arrivalTime);
+            columns[3].putInt(burstTime);
+            columns[4].putInt(quantum);
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            nameBytes += bytes.length;
+            if (nameBytes > Integer.MAX_VALUE) {
+                throw new IOException("names take more than 2 GB");
+            }
+            names.put(bytes);
+            offsets.putInt((int) nameBytes);
+            size++;
+        }
+
+        void finish() throws IOException {
+            try (FileChannel out = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                header.putInt(MAGIC).putInt(VERSION).putInt(size).putInt(0).flip();
+                while (header.hasRemaining()) {
+                    out.write(header);
+                }
+                for (Column column : columns) {
+                    column.copyTo(out);
+                }
+                offsets.copyTo(out);
+                names.copyTo(out);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            IOException failure = null;
+            for (Column column : new Column[]{columns[0], columns[1], columns[2], columns[3], columns[4], offsets, names}) {
+                try {
+                    if (column != null) {
+                        column.close();
+                    }
+                } catch (IOException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * A buffered temporary file that one column is appended to.
+     */
+    private static final class Column implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+
+        Column(Path directory) throws IOException {
+            Path file = Files.createTempFile(directory, "column", ".tmp");
+            try {
+                channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                        StandardOpenOption.DELETE_ON_CLOSE);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(file);
+                throw e;
+            }
+        }
+
+        void putInt(int value) throws IOException {
+            ensureRoom(channel, buffer, Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void put(byte[] bytes) throws IOException {
+            int written = 0;
+            while (written < bytes.length) {
+                ensureRoom(channel, buffer, 1);
+                int chunk = Math.min(buffer.remaining(), bytes.length - written);
+                buffer.put(bytes, written, chunk);
+                written += chunk;
+            }
+        }
+
+        void copyTo(FileChannel out) throws IOException {
+            flush(channel, buffer);
+            long size = channel.size();
+            for (long position = 0; position < size; ) {
+                position += channel.transferTo(position, size - position, out);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Runs one engine on many random replications of a {@link WorkloadModel} in parallel
+ * and summarises average waiting time, average turnaround time and makespan.
+ * <p>
+ * Replication {@code i} always uses the seed derived from the base seed and {@code i},
+ * and replications are accumulated in fixed blocks whose statistics are merged in
+ * block order. The summary therefore does not depend on the number of threads or on
+ * the order in which replications finish. Replications run with a
+ * {@link EventLog#disabled disabled} event log, as only their statistics are kept.
+ */
+public final class MonteCarloRunner {
+    private static final int BLOCK = 64;
+
+    /**
+     * Statistics of a set of replications.
+     */
+    public static final class Summary {
+        private final RunningStatistics waitingTime = new RunningStatistics();
+        private final RunningStatistics turnaroundTime = new RunningStatistics();
+        private final RunningStatistics makespan = new RunningStatistics();
+
+        void add(ScheduleResult result) {
+            waitingTime.add(result.getAverageWaitingTime());
+            turnaroundTime.add(result.getAverageTurnaroundTime());
+            makespan.add(result.getMakespan());
+        }
+
+        void merge(Summary other) {
+            waitingTime.merge(other.waitingTime);
+            turnaroundTime.merge(other.turnaroundTime);
+            makespan.merge(other.makespan);
+        }
+
+        public RunningStatistics getAverageWaitingTime() {
+            return waitingTime;
+        }
+
+        public RunningStatistics getAverageTurnaroundTime() {
+            return turnaroundTime;
+        }
+
+        public RunningStatistics getMakespan() {
+            return makespan;
+        }
+    }
+
+    private MonteCarloRunner() {
+    }
+
+    /**
+     * Seed of replication {@code index}: the SplitMix64 finaliser of the base seed
+     * stepped {@code index} times, so neighbouring replications get unrelated seeds.
+     */
+    public static long seedOf(long baseSeed, int index) {
+        long z = baseSeed + (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public static Summary run(SchedulingEngine engine, WorkloadModel model, int replications, long baseSeed) {
+        int blocks = (replications + BLOCK - 1) / BLOCK;
+        List<Summary> blockSummaries = IntStream.range(0, blocks)
+                .parallel()
+                .mapToObj(block -> runBlock(engine, model, block * BLOCK,
+                        Math.min(replications, (block + 1) * BLOCK), baseSeed))
+                .collect(Collectors.toList());
+
+        Summary summary = new Summary();
+        for (Summary block : blockSummaries) {
+            summary.merge(block);
+        }
+        return summary;
+    }
+
+    private static Summary runBlock(SchedulingEngine engine, WorkloadModel model, int from, int to, long baseSeed) {
+        Summary summary = new Summary();
+        for (int i = from; i < to; i++) {
+            try (ScheduleResult result = engine.run(model.generateWorkload(seedOf(baseSeed, i)), EventLog.disabled())) {
+                summary.add(result);
+            }
+        }
+        return summary;
+    }
+}
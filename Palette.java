@@ -0,0 +1,24 @@
+import java.awt.Color;
+
+/**
+ * Fixed set of well separated colours for processes that were not given one. The
+ * colours are created once and shared, so a large workload does not hold a
+ * {@link Color} per process.
+ */
+public final class Palette {
+    private static final Color[] COLORS = new Color[64];
+
+    static {
+        for (int i = 0; i < COLORS.length; i++) {
+            // golden-ratio steps around the hue circle keep neighbours apart
+            COLORS[i] = Color.getHSBColor((float) ((i * 0.618033988749895) % 1.0), 0.6f, 0.9f);
+        }
+    }
+
+    private Palette() {
+    }
+
+    public static Color get(int index) {
+        return COLORS[Math.floorMod(index, COLORS.length)];
+    }
+}
@@ -0,0 +1,265 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+
+/**
+ * Runs the algorithms over a grid of parameter values on all cores.
+ * <p>
+ * FCAI is swept over the initial quantum, the quantum split and the V1/V2 divisors,
+ * SRTF over the context switch time and the aging threshold, Priority over the context
+ * switch time and SJF over the aging threshold; FCFS has nothing to tune and runs once.
+ * All points share the workload; FCAI points with an initial quantum share one
+ * re-quantized view of it per quantum value. The points are split recursively
+ * into fork-join tasks, so idle workers steal what is left of long stretches, and each
+ * result is handed to the consumer as soon as it is ready, from whichever worker
+ * produced it. The setters check every value, so a bad one fails on the caller's
+ * thread before any task is forked. Only the statistics of a point are kept, so points
+ * run with a {@link EventLog#disabled disabled} event log.
+ */
+public final class ParameterSweep {
+    /** Quantum value that leaves every process its own quantum. */
+    public static final int OWN_QUANTUM = 0;
+
+    private int[] quanta = {OWN_QUANTUM};
+    private double[] quantumSplits = {FCAIEngine.DEFAULT_QUANTUM_SPLIT};
+    private double[] v1Divisors = {FCAIEngine.DEFAULT_DIVISOR};
+    private double[] v2Divisors = {FCAIEngine.DEFAULT_DIVISOR};
+    private int[] contextSwitchTimes = {0};
+    private int[] agingThresholds = {SJFEngine.DEFAULT_AGING_THRESHOLD};
+
+    /**
+     * Values from {@code start} to {@code end} inclusive in steps of {@code step}.
+     *
+     * @throws IllegalArgumentException if {@code end < start} or the step is not positive
+     */
+    public static double[] range(double start, double end, double step) {
+        if (!(start <= end) || !(step > 0)) {
+            throw new IllegalArgumentException("Invalid range " + start + " to " + end + " step " + step);
+        }
+        int count = (int) Math.floor((end - start) / step + 1e-9) + 1;
+        double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            // computed from the start each time and rounded, so 0.1 steps stay readable
+            values[i] = Math.round((start + i * step) * 1e9) / 1e9;
+        }
+        return values;
+    }
+
+    /**
+     * Values from {@code start} to {@code end} inclusive in steps of {@code step}.
+     *
+     * @throws IllegalArgumentException if {@code end < start} or the step is not positive
+     */
+    public static int[] range(int start, int end, int step) {
+        if (start > end || step <= 0) {
+            throw new IllegalArgumentException("Invalid range " + start + " to " + end + " step " + step);
+        }
+        int[] values = new int[(int) (((long) end - start) / step) + 1];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = start + i * step;
+        }
+        return values;
+    }
+
+    /**
+     * @param quanta initial FCAI quanta, 0 or more; {@link #OWN_QUANTUM} keeps each process's own
+     */
+    public void setQuanta(int... quanta) {
+        this.quanta = check("quantum", quanta, q -> q >= 0);
+    }
+
+    /**
+     * @param quantumSplits above 0 and at most 1
+     */
+    public void setQuantumSplits(double... quantumSplits) {
+        this.quantumSplits = check("quantum split", quantumSplits, split -> split > 0 && split <= 1);
+    }
+
+    /**
+     * @param v1Divisors above 0
+     */
+    public void setV1Divisors(double... v1Divisors) {
+        this.v1Divisors = check("V1 divisor", v1Divisors, divisor -> divisor > 0);
+    }
+
+    /**
+     * @param v2Divisors above 0
+     */
+    public void setV2Divisors(double... v2Divisors) {
+        this.v2Divisors = check("V2 divisor", v2Divisors, divisor -> divisor > 0);
+    }
+
+    /**
+     * @param contextSwitchTimes 0 or more
+     */
+    public void setContextSwitchTimes(int... contextSwitchTimes) {
+        this.contextSwitchTimes = check("context switch time", contextSwitchTimes, cs -> cs >= 0);
+    }
+
+    /**
+     * @param agingThresholds from 0, no aging, to {@link AgingReadyQueue#MAX_THRESHOLD}
+     */
+    public void setAgingThresholds(int... agingThresholds) {
+        this.agingThresholds = check("aging threshold", agingThresholds,
+                aging -> aging >= 0 && aging <= AgingReadyQueue.MAX_THRESHOLD);
+    }
+
+    private static int[] check(String parameter, int[] values, IntPredicate valid) {
+        if (values.length == 0) {
+            throw new IllegalArgumentException("No " + parameter + " values");
+        }
+        for (int value : values) {
+            if (!valid.test(value)) {
+                throw new IllegalArgumentException("Invalid " + parameter + ": " + value);
+            }
+        }
+        return values.clone();
+    }
+
+    private static double[] check(String parameter, double[] values, DoublePredicate valid) {
+        if (values.length == 0) {
+            throw new IllegalArgumentException("No " + parameter + " values");
+        }
+        for (double value : values) {
+            if (!valid.test(value)) {
+                throw new IllegalArgumentException("Invalid " + parameter + ": " + value);
+            }
+        }
+        return values.clone();
+    }
+
+    /**
+     * Number of runs {@link #run} will make.
+     */
+    public int size() {
+        return points().size();
+    }
+
+    public void run(List<ProcessSpec> workload, Consumer<SweepResult> results) {
+        run(Workload.of(workload), results);
+    }
+
+    /**
+     * Runs the whole grid on {@code workload} and blocks until every point is done.
+     *
+     * @param results receives each result as it completes; called from several threads at once
+     */
+    public void run(Workload workload, Consumer<SweepResult> results) {
+        List<Point> points = points();
+        Map<Integer, Workload> workloads = new HashMap<>();
+        workloads.put(OWN_QUANTUM, workload);
+        for (int quantum : quanta) {
+            workloads.computeIfAbsent(quantum, workload::withQuantum);
+        }
+        ForkJoinPool pool = new ForkJoinPool();
+        try {
+            pool.invoke(new SweepTask(points, 0, points.size(), workloads, results));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private List<Point> points() {
+        List<Point> points = new ArrayList<>();
+        points.add(new Point("FCFS", null, null, null, null, null, null));
+        for (int aging : agingThresholds) {
+            points.add(new Point("SJF", null, null, null, null, null, aging));
+        }
+        for (int cs : contextSwitchTimes) {
+            for (int aging : agingThresholds) {
+                points.add(new Point("SRTF", null, null, null, null, cs, aging));
+            }
+        }
+        for (int cs : contextSwitchTimes) {
+            points.add(new Point("Priority", null, null, null, null, cs, null));
+        }
+        for (int quantum : quanta) {
+            for (double split : quantumSplits) {
+                for (double v1 : v1Divisors) {
+                    for (double v2 : v2Divisors) {
+                        points.add(new Point("FCAI", quantum, split, v1, v2, null, null));
+                    }
+                }
+            }
+        }
+        return points;
+    }
+
+    private static final class Point {
+        final String algorithm;
+        final Integer quantum;
+        final Double quantumSplit;
+        final Double v1Divisor;
+        final Double v2Divisor;
+        final Integer contextSwitchTime;
+        final Integer agingThreshold;
+
+        Point(String algorithm, Integer quantum, Double quantumSplit, Double v1Divisor, Double v2Divisor,
+              Integer contextSwitchTime, Integer agingThreshold) {
+            this.algorithm = algorithm;
+            this.quantum = quantum;
+            this.quantumSplit = quantumSplit;
+            this.v1Divisor = v1Divisor;
+            this.v2Divisor = v2Divisor;
+            this.contextSwitchTime = contextSwitchTime;
+            this.agingThreshold = agingThreshold;
+        }
+
+        SchedulingEngine engine() {
+            switch (algorithm) {
+                case "SJF":
+                    return new SJFEngine(agingThreshold);
+                case "SRTF":
+                    return new SRTFEngine(contextSwitchTime, agingThreshold);
+                case "Priority":
+                    return new PriorityEngine(contextSwitchTime);
+                case "FCAI":
+                    return new FCAIEngine(quantumSplit, v1Divisor, v2Divisor);
+                default:
+                    return new FCFSEngine();
+            }
+        }
+
+        SweepResult run(Map<Integer, Workload> workloads) {
+            try (ScheduleResult result = engine().run(workloads.get(quantum == null ? OWN_QUANTUM : quantum),
+                    EventLog.disabled())) {
+                return new SweepResult(algorithm, quantum, quantumSplit, v1Divisor, v2Divisor,
+                        contextSwitchTime, agingThreshold, result);
+            }
+        }
+    }
+
+    private static final class SweepTask extends RecursiveAction {
+        private final List<Point> points;
+        private final int from;
+        private final int to;
+        private final Map<Integer, Workload> workloads;
+        private final Consumer<SweepResult> results;
+
+        SweepTask(List<Point> points, int from, int to, Map<Integer, Workload> workloads,
+                  Consumer<SweepResult> results) {
+            this.points = points;
+            this.from = from;
+            this.to = to;
+            this.workloads = workloads;
+            this.results = results;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                results.accept(points.get(from).run(workloads));
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SweepTask(points, from, middle, workloads, results),
+                    new SweepTask(points, middle, to, workloads, results));
+        }
+    }
+}
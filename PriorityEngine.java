@@ -0,0 +1,148 @@
+/**
+ * Priority scheduling, lower numbers first; equal priorities go by arrival time, then
+ * by admission order.
+ * <p>
+ * Ready processes wait in an {@link IndexedMinHeap} and are admitted by an
+ * {@link ArrivalCursor}, so every arrival and dispatch costs O(log n). In preemptive
+ * mode the running process is only looked at again when something arrives: priorities
+ * never change, so an arrival is the only thing that can beat it. It then runs
+ * straight up to the next arrival or its completion.
+ */
+public class PriorityEngine implements SchedulingEngine {
+    private final int contextSwitchTime;
+    private final boolean preemptive;
+
+    public PriorityEngine(int contextSwitchTime) {
+        this(contextSwitchTime, false);
+    }
+
+    /**
+     * @param preemptive whether an arriving process with a higher priority than the
+     *                   running one takes the CPU, after a context switch
+     */
+    public PriorityEngine(int contextSwitchTime, boolean preemptive) {
+        this.contextSwitchTime = contextSwitchTime;
+        this.preemptive = preemptive;
+    }
+
+    @Override
+    public String getName() {
+        return preemptive ? "Priority (preemptive)" : "Priority";
+    }
+
+    @Override
+    public ScheduleResult run(Workload workload, EventLog eventLog) {
+        ProcessTable table = ProcessTable.byArrivalThenPriority(workload);
+        TimelineBuilder executionHistory = new TimelineBuilder();
+
+        if (preemptive) {
+            runPreemptive(table, executionHistory, eventLog);
+        } else {
+            runNonPreemptive(table, executionHistory, eventLog);
+        }
+
+        eventLog.close();
+        return table.toResult(getName(), workload, executionHistory.build(), eventLog);
+    }
+
+    private void runNonPreemptive(ProcessTable table, TimelineBuilder executionHistory, EventLog eventLog) {
+        ArrivalCursor arrivals = new ArrivalCursor(table);
+        IndexedMinHeap readyQueue = new IndexedMinHeap(table.size());
+        int currentTime = 0;
+
+        while (arrivals.hasNext() || !readyQueue.isEmpty()) {
+            admit(arrivals, readyQueue, table, eventLog, currentTime);
+
+            if (readyQueue.isEmpty()) {
+                currentTime = arrivals.peekArrivalTime();
+                continue;
+            }
+
+            int current = readyQueue.poll();
+
+            if (currentTime > 0 && table.arrivalTime(current) != currentTime) {
+                executionHistory.recordContextSwitch(currentTime, currentTime + contextSwitchTime);
+                currentTime += contextSwitchTime;
+                eventLog.record(EventLog.Type.CONTEXT_SWITCH, currentTime, table.id(current));
+            }
+            eventLog.record(EventLog.Type.DISPATCH, currentTime, table.id(current));
+
+            executionHistory.record(table.index(current), currentTime, currentTime + table.remaining(current));
+            currentTime += table.burstTime(current);
+            table.setRemaining(current, 0);
+            table.setCompletionTime(current, currentTime);
+            eventLog.recordCompletion(table, current);
+        }
+    }
+
+    /**
+     * A switch is charged whenever the CPU goes to a process other than the one that
+     * ran last. Processes arriving during a switch are admitted when it is over, and may
+     * preempt the process that was switched to before it runs.
+     */
+    private void runPreemptive(ProcessTable table, TimelineBuilder executionHistory, EventLog eventLog) {
+        ArrivalCursor arrivals = new ArrivalCursor(table);
+        IndexedMinHeap readyQueue = new IndexedMinHeap(table.size());
+        int currentTime = 0;
+        int current = -1;
+        int previous = -1;
+
+        while (arrivals.hasNext() || !readyQueue.isEmpty() || current >= 0) {
+            admit(arrivals, readyQueue, table, eventLog, currentTime);
+
+            if (current >= 0 && !readyQueue.isEmpty()
+                    && table.priority(readyQueue.peek()) < table.priority(current)) {
+                eventLog.record(EventLog.Type.PREEMPT, currentTime, table.id(current), table.id(readyQueue.peek()));
+                readyQueue.add(current, key(table, current));
+                current = -1;
+            }
+
+            if (current < 0) {
+                if (readyQueue.isEmpty()) {
+                    currentTime = arrivals.peekArrivalTime();
+                    continue;
+                }
+                current = readyQueue.poll();
+                if (previous >= 0 && previous != current) {
+                    executionHistory.recordContextSwitch(currentTime, currentTime + contextSwitchTime);
+                    currentTime += contextSwitchTime;
+                    eventLog.record(EventLog.Type.CONTEXT_SWITCH, currentTime, table.id(current));
+                }
+                previous = current;
+                eventLog.record(EventLog.Type.DISPATCH, currentTime, table.id(current));
+            }
+
+            int steps = table.remaining(current);
+            if (arrivals.hasNext()) {
+                // nothing runs if an arrival is already due: it is admitted first
+                steps = Math.min(steps, Math.max(0, arrivals.peekArrivalTime() - currentTime));
+            }
+            executionHistory.record(table.index(current), currentTime, currentTime + steps);
+            table.setRemaining(current, table.remaining(current) - steps);
+            currentTime += steps;
+
+            if (table.remaining(current) == 0) {
+                table.setCompletionTime(current, currentTime);
+                eventLog.recordCompletion(table, current);
+                current = -1;
+            }
+        }
+    }
+
+    private static void admit(ArrivalCursor arrivals, IndexedMinHeap readyQueue, ProcessTable table,
+                              EventLog eventLog, int currentTime) {
+        while (arrivals.hasArrivalBy(currentTime)) {
+            int arrived = arrivals.nextSlot();
+            readyQueue.add(arrived, key(table, arrived));
+            eventLog.record(EventLog.Type.ARRIVAL, currentTime, table.id(arrived));
+        }
+    }
+
+    /**
+     * Priority in the high half and arrival time in the low half, so the heap orders by
+     * both; equal keys come out by slot, which is the admission order.
+     */
+    private static long key(ProcessTable table, int slot) {
+        return ((long) table.priority(slot) << 32) + ((long) table.arrivalTime(slot) - Integer.MIN_VALUE);
+    }
+}
@@ -0,0 +1,67 @@
+import java.awt.Color;
+
+/**
+ * A process as described by the user: what it is, when it arrives and how much work
+ * it brings.
+ * <p>
+ * Specs are immutable and hold no scheduling state, so one workload can be run any
+ * number of times, by several engines at once, without copying it. Each run keeps its
+ * own state in a {@link ProcessTable}.
+ */
+public final class ProcessSpec {
+    private final int id;
+    private final String name;
+    private final Color color;
+    private final int priority;
+    private final int arrivalTime;
+    private final int burstTime;
+    private final int quantum;
+
+    public ProcessSpec(int id, String name, Color color, int priority, int arrivalTime, int burstTime, int quantum) {
+        this.id = id;
+        this.name = name;
+        this.color = color;
+        this.priority = priority;
+        this.arrivalTime = arrivalTime;
+        this.burstTime = burstTime;
+        this.quantum = quantum;
+    }
+
+    /**
+     * The same process with another initial quantum.
+     */
+    public ProcessSpec withQuantum(int quantum) {
+        return quantum == this.quantum ? this : new ProcessSpec(id, name, color, priority, arrivalTime, burstTime, quantum);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Color getColor() {
+        return color;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public int getArrivalTime() {
+        return arrivalTime;
+    }
+
+    public int getBurstTime() {
+        return burstTime;
+    }
+
+    /**
+     * The quantum the process starts with; FCAI changes it during a run.
+     */
+    public int getQuantum() {
+        return quantum;
+    }
+}
@@ -0,0 +1,232 @@
+/**
+ * Scheduling state of one run, kept as one primitive array per field.
+ * <p>
+ * The processes are laid out in slots, in the order the engine admits them, and the
+ * scheduling loop works on slot numbers only: ready queues and comparisons read the
+ * arrays directly instead of following a reference per process, and a run allocates
+ * a fixed handful of arrays whatever the number of processes. The arrays are filled
+ * from the workload's columns, so a workload that keeps its fields in columns is run
+ * without ever making a {@link ProcessSpec}. Names and colors are not copied;
+ * {@link #index(int)} leads back to the process in the workload.
+ */
+public final class ProcessTable {
+    private final int size;
+    private final int[] index;
+    private final int[] id;
+    private final int[] priority;
+    private final int[] arrivalTime;
+    private final int[] burstTime;
+    private final int[] quantum;
+    private final int[] remaining;
+    private final int[] completionTime;
+    private final int[] waitTime;
+    private final double[] fcaiFactor;
+
+    private ProcessTable(Workload workload, boolean byPriority) {
+        size = workload.size();
+        int[] ids = new int[size];
+        int[] priorities = new int[size];
+        int[] arrivals = new int[size];
+        int[] bursts = new int[size];
+        int[] quanta = new int[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = workload.id(i);
+            priorities[i] = workload.priority(i);
+            arrivals[i] = workload.arrivalTime(i);
+            bursts[i] = workload.burstTime(i);
+            quanta[i] = workload.quantum(i);
+        }
+
+        index = admissionOrder(arrivals, byPriority ? priorities : null);
+        id = permute(ids, index);
+        priority = permute(priorities, index);
+        arrivalTime = permute(arrivals, index);
+        burstTime = permute(bursts, index);
+        quantum = permute(quanta, index);
+        remaining = burstTime.clone();
+        completionTime = new int[size];
+        waitTime = new int[size];
+        fcaiFactor = new double[size];
+    }
+
+    /**
+     * Slots in arrival order, keeping the input order for equal arrivals.
+     */
+    public static ProcessTable byArrival(Workload workload) {
+        return new ProcessTable(workload, false);
+    }
+
+    /**
+     * Slots in arrival order, then priority, then input order.
+     */
+    public static ProcessTable byArrivalThenPriority(Workload workload) {
+        return new ProcessTable(workload, true);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Position in the workload of the process in {@code slot}.
+     */
+    public int index(int slot) {
+        return index[slot];
+    }
+
+    public int id(int slot) {
+        return id[slot];
+    }
+
+    public int priority(int slot) {
+        return priority[slot];
+    }
+
+    public int arrivalTime(int slot) {
+        return arrivalTime[slot];
+    }
+
+    public int burstTime(int slot) {
+        return burstTime[slot];
+    }
+
+    public int quantum(int slot) {
+        return quantum[slot];
+    }
+
+    public void setQuantum(int slot, int value) {
+        quantum[slot] = value;
+    }
+
+    public int remaining(int slot) {
+        return remaining[slot];
+    }
+
+    public void setRemaining(int slot, int value) {
+        remaining[slot] = value;
+    }
+
+    /**
+     * Rounds into the current aging period the process was when it last left the ready queue.
+     */
+    public int waitTime(int slot) {
+        return waitTime[slot];
+    }
+
+    public void setWaitTime(int slot, int value) {
+        waitTime[slot] = value;
+    }
+
+    public double fcaiFactor(int slot) {
+        return fcaiFactor[slot];
+    }
+
+    public void updateFcaiFactor(int slot, double v1, double v2) {
+        fcaiFactor[slot] = (10 - priority[slot]) + Math.ceil(arrivalTime[slot] / v1) + Math.ceil(remaining[slot] / v2);
+    }
+
+    public int completionTime(int slot) {
+        return completionTime[slot];
+    }
+
+    public void setCompletionTime(int slot, int time) {
+        completionTime[slot] = time;
+    }
+
+    public int turnaroundTime(int slot) {
+        return completionTime[slot] - arrivalTime[slot];
+    }
+
+    public int waitingTime(int slot) {
+        return turnaroundTime(slot) - burstTime[slot];
+    }
+
+    public int maxArrivalTime() {
+        int max = 0;
+        for (int slot = 0; slot < size; slot++) {
+            max = Math.max(max, arrivalTime[slot]);
+        }
+        return max;
+    }
+
+    public int maxBurstTime() {
+        int max = 0;
+        for (int slot = 0; slot < size; slot++) {
+            max = Math.max(max, burstTime[slot]);
+        }
+        return max;
+    }
+
+    /**
+     * The result of the run, with the times put back in the order of {@code workload},
+     * the workload the table was built from.
+     */
+    public ScheduleResult toResult(String algorithm, Workload workload, Timeline timeline, EventLog eventLog) {
+        int[] completionTimes = new int[size];
+        int[] turnaroundTimes = new int[size];
+        int[] waitingTimes = new int[size];
+        for (int slot = 0; slot < size; slot++) {
+            int i = index[slot];
+            completionTimes[i] = completionTime[slot];
+            turnaroundTimes[i] = turnaroundTime(slot);
+            waitingTimes[i] = waitingTime(slot);
+        }
+        return new ScheduleResult(algorithm, workload, completionTimes, turnaroundTimes, waitingTimes, timeline, eventLog);
+    }
+
+    /**
+     * Stable sort of the input positions by arrival time and, if given, priority.
+     * Workloads usually come in arrival order already, which is checked first.
+     */
+    private static int[] admissionOrder(int[] arrivals, int[] priorities) {
+        int n = arrivals.length;
+        int[] order = new int[n];
+        boolean sorted = true;
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+            if (i > 0 && compare(arrivals, priorities, i - 1, i) > 0) {
+                sorted = false;
+            }
+        }
+        if (sorted) {
+            return order;
+        }
+        // bottom-up merge sort, stable so equal keys keep the input order
+        int[] buffer = new int[n];
+        for (int width = 1; width < n; width *= 2) {
+            for (int low = 0; low < n; low += 2 * width) {
+                int middle = Math.min(low + width, n);
+                int high = Math.min(low + 2 * width, n);
+                int left = low;
+                int right = middle;
+                for (int k = low; k < high; k++) {
+                    if (left < middle && (right >= high || compare(arrivals, priorities, order[left], order[right]) <= 0)) {
+                        buffer[k] = order[left++];
+                    } else {
+                        buffer[k] = order[right++];
+                    }
+                }
+            }
+            int[] swap = order;
+            order = buffer;
+            buffer = swap;
+        }
+        return order;
+    }
+
+    private static int compare(int[] arrivals, int[] priorities, int a, int b) {
+        int c = Integer.compare(arrivals[a], arrivals[b]);
+        if (c == 0 && priorities != null) {
+            c = Integer.compare(priorities[a], priorities[b]);
+        }
+        return c;
+    }
+
+    private static int[] permute(int[] values, int[] order) {
+        int[] permuted = new int[values.length];
+        for (int slot = 0; slot < order.length; slot++) {
+            permuted[slot] = values[order[slot]];
+        }
+        return permuted;
+    }
+}
@@ -0,0 +1,58 @@
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+
+/**
+ * Small window that shows how far a {@link SimulationWorker} has got and lets the user
+ * cancel it.
+ */
+public class ProgressWindow extends JFrame {
+    private final JProgressBar progressBar = new JProgressBar();
+    private final JLabel statusLabel = new JLabel("Starting...");
+    private final JButton cancelButton = new JButton("Cancel");
+
+    public ProgressWindow(String algorithm, int processCount) {
+        setTitle("Running " + algorithm);
+        setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE);
+        setLayout(new BorderLayout(10, 10));
+
+        progressBar.setMaximum(Math.max(1, processCount));
+        progressBar.setStringPainted(true);
+
+        JPanel content = new JPanel(new BorderLayout(10, 10));
+        content.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        content.add(statusLabel, BorderLayout.NORTH);
+        content.add(progressBar, BorderLayout.CENTER);
+        content.add(cancelButton, BorderLayout.EAST);
+        add(content);
+
+        setSize(400, 110);
+        setLocationRelativeTo(null);
+    }
+
+    /**
+     * Cancels {@code worker} when the Cancel button is pressed or the window is closed.
+     */
+    public void attach(SwingWorker<?, ?> worker) {
+        cancelButton.addActionListener(e -> cancel(worker));
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                cancel(worker);
+            }
+        });
+    }
+
+    public void update(SimulationWorker.Progress progress) {
+        progressBar.setValue(progress.getCompleted());
+        statusLabel.setText("Time " + progress.getTime() + ", completed " + progress.getCompleted()
+                + " of " + progress.getTotal() + " processes");
+    }
+
+    private void cancel(SwingWorker<?, ?> worker) {
+        cancelButton.setEnabled(false);
+        statusLabel.setText("Cancelling...");
+        worker.cancel(true);
+    }
+}
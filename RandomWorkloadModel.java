@@ -0,0 +1,61 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Workload of a fixed number of processes with uniformly distributed gaps between
+ * arrivals, burst times, priorities and quanta.
+ */
+public class RandomWorkloadModel implements WorkloadModel {
+    private final int processCount;
+    private final int maxArrivalGap;
+    private final int minBurst;
+    private final int maxBurst;
+    private final int maxPriority;
+    private final int minQuantum;
+    private final int maxQuantum;
+
+    /**
+     * All bounds are inclusive; arrivals start at 0 and each later one comes
+     * 0..{@code maxArrivalGap} after the previous.
+     */
+    public RandomWorkloadModel(int processCount, int maxArrivalGap, int minBurst, int maxBurst,
+                               int maxPriority, int minQuantum, int maxQuantum) {
+        if (processCount < 0 || maxArrivalGap < 0 || minBurst < 1 || maxBurst < minBurst
+                || maxPriority < 0 || minQuantum < 1 || maxQuantum < minQuantum) {
+            throw new IllegalArgumentException("invalid workload model bounds");
+        }
+        this.processCount = processCount;
+        this.maxArrivalGap = maxArrivalGap;
+        this.minBurst = minBurst;
+        this.maxBurst = maxBurst;
+        this.maxPriority = maxPriority;
+        this.minQuantum = minQuantum;
+        this.maxQuantum = maxQuantum;
+    }
+
+    @Override
+    public List<ProcessSpec> generate(long seed) {
+        return new ArrayList<>(generateWorkload(seed).asList());
+    }
+
+    @Override
+    public Workload generateWorkload(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] priorities = new int[processCount];
+        int[] arrivals = new int[processCount];
+        int[] bursts = new int[processCount];
+        int[] quanta = new int[processCount];
+        int arrival = 0;
+        for (int i = 0; i < processCount; i++) {
+            if (i > 0) {
+                arrival += random.nextInt(maxArrivalGap + 1);
+            }
+            arrivals[i] = arrival;
+            bursts[i] = random.nextInt(minBurst, maxBurst + 1);
+            priorities[i] = random.nextInt(maxPriority + 1);
+            quanta[i] = random.nextInt(minQuantum, maxQuantum + 1);
+        }
+        return new GeneratedWorkload(priorities, arrivals, bursts, quanta);
+    }
+}
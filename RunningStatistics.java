@@ -0,0 +1,74 @@
+/**
+ * Mean and variance of a stream of values, updated one value at a time with
+ * Welford's method. Two accumulators can be merged, which gives the same result as
+ * adding all values to one of them, up to rounding.
+ */
+public final class RunningStatistics {
+    // two-sided 97.5% quantiles of Student's t distribution for 1..30 degrees of freedom
+    private static final double[] T_975 = {
+            12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+            2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+            2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042};
+    private static final double Z_975 = 1.960;
+
+    private long count;
+    private double mean;
+    private double sumOfSquares;
+
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        sumOfSquares += delta * (value - mean);
+    }
+
+    /**
+     * Adds the values seen by {@code other} (Chan et al.'s pairwise update).
+     */
+    public void merge(RunningStatistics other) {
+        if (other.count == 0) {
+            return;
+        }
+        if (count == 0) {
+            count = other.count;
+            mean = other.mean;
+            sumOfSquares = other.sumOfSquares;
+            return;
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        sumOfSquares += other.sumOfSquares + delta * delta * ((double) count * other.count / total);
+        count = total;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    /** Sample variance, 0 for fewer than two values. */
+    public double getVariance() {
+        return count < 2 ? 0 : sumOfSquares / (count - 1);
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * Half width of the 95% confidence interval of the mean, using Student's t for
+     * small samples; 0 for fewer than two values.
+     */
+    public double getConfidenceHalfWidth95() {
+        if (count < 2) {
+            return 0;
+        }
+        long degrees = count - 1;
+        double t = degrees <= T_975.length ? T_975[(int) degrees - 1] : Z_975;
+        return t * getStandardDeviation() / Math.sqrt(count);
+    }
+}
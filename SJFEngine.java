@@ -0,0 +1,75 @@
+public class SJFEngine implements SchedulingEngine {
+    public static final int DEFAULT_AGING_THRESHOLD = 5;
+
+    private final int agingThreshold;
+
+    public SJFEngine() {
+        this(DEFAULT_AGING_THRESHOLD);
+    }
+
+    /**
+     * @param agingThreshold time units of waiting per unit of aging, 0 for no aging, at most
+     *                       {@link AgingReadyQueue#MAX_THRESHOLD}
+     */
+    public SJFEngine(int agingThreshold) {
+        if (agingThreshold < 0 || agingThreshold > AgingReadyQueue.MAX_THRESHOLD) {
+            throw new IllegalArgumentException("Aging threshold must be between 0 and "
+                    + AgingReadyQueue.MAX_THRESHOLD + ": " + agingThreshold);
+        }
+        this.agingThreshold = agingThreshold;
+    }
+
+    @Override
+    public String getName() {
+        return "SJF";
+    }
+
+    @Override
+    public ScheduleResult run(Workload workload, EventLog eventLog) {
+        // slots follow (arrival, priority, input order), so the heap's tie-break on the
+        // slot matches the old comparator's arrival and priority tie-breaks
+        ProcessTable table = ProcessTable.byArrivalThenPriority(workload);
+        ArrivalCursor arrivals = new ArrivalCursor(table);
+        TimelineBuilder executionHistory = new TimelineBuilder();
+
+        int currentTime = 0;
+        AgingReadyQueue readyQueue = new AgingReadyQueue(table.size(), agingThreshold);
+
+        int current = -1;
+
+        while (arrivals.hasNext() || !readyQueue.isEmpty() || current >= 0) {
+            while (arrivals.hasArrivalBy(currentTime)) {
+                int slot = arrivals.nextSlot();
+                readyQueue.add(slot, table.remaining(slot), table.waitTime(slot));
+                eventLog.record(EventLog.Type.ARRIVAL, currentTime, table.id(slot));
+            }
+
+            readyQueue.advance(1);
+
+            if (current < 0 && !readyQueue.isEmpty()) {
+                current = readyQueue.peek();
+                int agingSteps = readyQueue.agingSteps(current);
+                if (agingSteps > 0) {
+                    eventLog.record(EventLog.Type.AGING, currentTime, table.id(current),
+                            EventLog.pack(agingSteps, readyQueue.effectiveRemaining(current)));
+                }
+                table.setWaitTime(current, readyQueue.waitTime(current));
+                readyQueue.remove(current);
+                eventLog.record(EventLog.Type.DISPATCH, currentTime, table.id(current));
+            }
+            if (current >= 0) {
+                executionHistory.record(table.index(current), currentTime, currentTime + 1);
+                table.setRemaining(current, table.remaining(current) - 1);
+                if (table.remaining(current) == 0) {
+                    table.setCompletionTime(current, currentTime + 1);
+                    eventLog.recordCompletion(table, current);
+                    current = -1;
+                }
+            }
+            currentTime++;
+        }
+
+        eventLog.close();
+        return table.toResult(getName(), workload, executionHistory.build(), eventLog);
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ * Shortest Remaining Time First with aging and context switches.
+ * <p>
+ * The engine is event driven: instead of stepping one time unit at a time it
+ * runs the current process straight up to the next arrival or its completion.
+ * Waiting processes age lazily in an {@link AgingReadyQueue}, so a stretch of
+ * any length costs the same. Completion, turnaround and waiting times are those of
+ * the unit-step simulation it replaces.
+ */
+public class SRTFEngine implements SchedulingEngine {
+    public static final int DEFAULT_AGING_THRESHOLD = 5;
+
+    private final int contextSwitchTime;
+    private final int agingThreshold;
+
+    public SRTFEngine(int contextSwitchTime) {
+        this(contextSwitchTime, DEFAULT_AGING_THRESHOLD);
+    }
+
+    /**
+     * @param agingThreshold time units of waiting per unit of aging, 0 for no aging, at most
+     *                       {@link AgingReadyQueue#MAX_THRESHOLD}
+     */
+    public SRTFEngine(int contextSwitchTime, int agingThreshold) {
+        if (agingThreshold < 0 || agingThreshold > AgingReadyQueue.MAX_THRESHOLD) {
+            throw new IllegalArgumentException("Aging threshold must be between 0 and "
+                    + AgingReadyQueue.MAX_THRESHOLD + ": " + agingThreshold);
+        }
+        this.contextSwitchTime = contextSwitchTime;
+        this.agingThreshold = agingThreshold;
+    }
+
+    @Override
+    public String getName() {
+        return "SRTF";
+    }
+
+    @Override
+    public ScheduleResult run(Workload workload, EventLog eventLog) {
+        // slots follow (arrival, priority, input order), so the heap's tie-break on the
+        // slot matches the old comparator's arrival and priority tie-breaks
+        ProcessTable table = ProcessTable.byArrivalThenPriority(workload);
+        ArrivalCursor arrivals = new ArrivalCursor(table);
+        TimelineBuilder executionHistory = new TimelineBuilder();
+
+        AgingReadyQueue readyQueue = new AgingReadyQueue(table.size(), agingThreshold);
+
+        int currentTime = 0;
+        int current = -1;
+
+        while (arrivals.hasNext() || !readyQueue.isEmpty() || current >= 0) {
+            while (arrivals.hasArrivalBy(currentTime)) {
+                int slot = arrivals.nextSlot();
+                readyQueue.add(slot, table.remaining(slot), table.waitTime(slot));
+                eventLog.record(EventLog.Type.ARRIVAL, currentTime, table.id(slot));
+            }
+
+            if (current >= 0 && !readyQueue.isEmpty() &&
+                    readyQueue.peekKey() < table.remaining(current)) {
+                readyQueue.add(current, table.remaining(current), table.waitTime(current));
+                eventLog.record(EventLog.Type.PREEMPT, currentTime, table.id(current), table.id(readyQueue.peek()));
+                current = dispatch(readyQueue, table, eventLog, currentTime);
+                executionHistory.recordContextSwitch(currentTime, currentTime + contextSwitchTime);
+                currentTime += contextSwitchTime;
+                eventLog.record(EventLog.Type.CONTEXT_SWITCH, currentTime, table.id(current));
+                eventLog.record(EventLog.Type.DISPATCH, currentTime, table.id(current));
+            }
+
+            readyQueue.advance(1);
+
+            if (current < 0 && !readyQueue.isEmpty()) {
+                current = dispatch(readyQueue, table, eventLog, currentTime);
+                eventLog.record(EventLog.Type.DISPATCH, currentTime, table.id(current));
+                if (!executionHistory.isEmpty()) {
+                    eventLog.record(EventLog.Type.CONTEXT_SWITCH, currentTime, EventLog.NO_PROCESS);
+                    executionHistory.recordContextSwitch(currentTime, currentTime + contextSwitchTime);
+                    currentTime += contextSwitchTime;
+                }
+            }
+
+            if (current < 0) {
+                // CPU is idle: nothing can happen before the next arrival
+                currentTime = Math.max(currentTime + 1, arrivals.peekArrivalTime());
+                continue;
+            }
+
+            // The running process can only be preempted right after it was dispatched
+            // (its aging credit is handed back then) or by a new arrival: while it runs
+            // its remaining time drops by one per step, faster than any waiting
+            // process can age. Run it up to the next arrival or to its completion.
+            int steps = 1;
+            int remaining = table.remaining(current);
+            if (readyQueue.isEmpty() || readyQueue.peekKey() >= remaining - 1) {
+                steps = remaining;
+                if (arrivals.hasNext()) {
+                    // after a context switch the next arrival may already be due; it is
+                    // admitted at the start of the following step as before
+                    steps = Math.min(steps, Math.max(1, arrivals.peekArrivalTime() - currentTime));
+                }
+            }
+
+            executionHistory.record(table.index(current), currentTime, currentTime + steps);
+            table.setRemaining(current, remaining - steps);
+            readyQueue.advance(steps - 1);
+            currentTime += steps;
+
+            if (table.remaining(current) == 0) {
+                table.setCompletionTime(current, currentTime);
+                eventLog.recordCompletion(table, current);
+                current = -1;
+            }
+        }
+
+        eventLog.close();
+        return table.toResult(getName(), workload, executionHistory.build(), eventLog);
+    }
+
+    /**
+     * Takes the process with the lowest aged remaining time off the ready queue. Its
+     * aging credit is not applied to the process itself: the aged value only decides
+     * the order, and a dispatched process always runs with its actual remaining time.
+     */
+    private int dispatch(AgingReadyQueue readyQueue, ProcessTable table, EventLog eventLog, int currentTime) {
+        int slot = readyQueue.peek();
+        int agingSteps = readyQueue.agingSteps(slot);
+        if (agingSteps > 0) {
+            eventLog.record(EventLog.Type.AGING, currentTime, table.id(slot), EventLog.pack(agingSteps, readyQueue.effectiveRemaining(slot)));
+        }
+        table.setWaitTime(slot, readyQueue.waitTime(slot));
+        readyQueue.remove(slot);
+        return slot;
+    }
+}
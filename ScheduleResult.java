@@ -0,0 +1,143 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Immutable outcome of one engine run: the execution timeline, the log of
+ * scheduling events and the per-process completion, turnaround and waiting
+ * times, indexed in the order of the workload.
+ * <p>
+ * A timeline that was spilled to disk holds a mapped file until the result is closed;
+ * code that runs many engines and keeps only statistics closes each result when done.
+ */
+public final class ScheduleResult implements AutoCloseable {
+    private final String algorithm;
+    private final Workload workload;
+    private final Timeline timeline;
+    private final EventLog eventLog;
+    private final int[] completionTimes;
+    private final int[] turnaroundTimes;
+    private final int[] waitingTimes;
+
+    /**
+     * The arrays are indexed like {@code workload} and are taken over, not copied.
+     */
+    public ScheduleResult(String algorithm, Workload workload, int[] completionTimes, int[] turnaroundTimes,
+                          int[] waitingTimes, Timeline timeline, EventLog eventLog) {
+        this.algorithm = algorithm;
+        this.workload = workload;
+        this.timeline = timeline;
+        this.eventLog = eventLog;
+        this.completionTimes = completionTimes;
+        this.turnaroundTimes = turnaroundTimes;
+        this.waitingTimes = waitingTimes;
+        for (int i = 0; i < waitingTimes.length; i++) {
+            // a negative waiting time is reported as zero, as the console table always did
+            waitingTimes[i] = Math.max(0, waitingTimes[i]);
+        }
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public Workload getWorkload() {
+        return workload;
+    }
+
+    /**
+     * The workload as specs; see {@link Workload#asList()}. Code that reads every
+     * process should use {@link #getWorkload()} instead.
+     */
+    public List<ProcessSpec> getProcesses() {
+        return workload.asList();
+    }
+
+    /**
+     * The recorded timeline. It is handed over by the engine and must not be appended to.
+     */
+    public Timeline getTimeline() {
+        return timeline;
+    }
+
+    public EventLog getEventLog() {
+        return eventLog;
+    }
+
+    public int size() {
+        return workload.size();
+    }
+
+    public int getCompletionTime(int index) {
+        return completionTimes[index];
+    }
+
+    public int getTurnaroundTime(int index) {
+        return turnaroundTimes[index];
+    }
+
+    public int getWaitingTime(int index) {
+        return waitingTimes[index];
+    }
+
+    public int getMakespan() {
+        int makespan = 0;
+        for (int completionTime : completionTimes) {
+            makespan = Math.max(makespan, completionTime);
+        }
+        return makespan;
+    }
+
+    /**
+     * Number of times the CPU went from one process to another, whether or not the
+     * engine charged time for the switch.
+     */
+    public int getContextSwitchCount() {
+        int switches = 0;
+        int previous = Timeline.CONTEXT_SWITCH;
+        for (int i = 0; i < timeline.size(); i++) {
+            if (timeline.isContextSwitch(i)) {
+                continue;
+            }
+            int process = timeline.processIndex(i);
+            if (previous != Timeline.CONTEXT_SWITCH && process != previous) {
+                switches++;
+            }
+            previous = process;
+        }
+        return switches;
+    }
+
+    public double getAverageWaitingTime() {
+        if (waitingTimes.length == 0) return 0;
+        long total = 0;
+        for (int waitingTime : waitingTimes) {
+            total += waitingTime;
+        }
+        return (double) total / waitingTimes.length;
+    }
+
+    public double getAverageTurnaroundTime() {
+        if (turnaroundTimes.length == 0) return 0;
+        long total = 0;
+        for (int turnaroundTime : turnaroundTimes) {
+            total += turnaroundTime;
+        }
+        return (double) total / turnaroundTimes.length;
+    }
+
+    /**
+     * Releases the timeline's file if it was spilled to disk. The timeline, and with it
+     * {@link #getContextSwitchCount()}, must not be used afterwards; the times stay available.
+     */
+    @Override
+    public void close() {
+        if (timeline instanceof MappedTimeline) {
+            try {
+                ((MappedTimeline) timeline).close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not release the timeline file", e);
+            }
+        }
+    }
+}
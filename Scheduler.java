@@ -1,5 +1,5 @@
 public interface Scheduler  {
-    void execute();
+    void showResult(ScheduleResult result);
 
     void setVisible(boolean b);
 
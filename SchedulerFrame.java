@@ -0,0 +1,207 @@
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.TableColumnModel;
+import java.awt.*;
+
+/**
+ * Swing window shared by the scheduler viewers. It only displays a
+ * {@link ScheduleResult}; the simulation itself runs in a {@link SchedulingEngine}.
+ * <p>
+ * The event log is moved into the history area in batches on a timer, one append per
+ * batch, so a long log neither blocks the event dispatch thread nor makes the text
+ * area re-layout for every line. The interval can be set with the system property
+ * {@code scheduler.log.flushMillis}.
+ * <p>
+ * The process table reads its cells from the {@link Workload} as they are painted, so
+ * only the visible rows are ever looked at.
+ */
+public abstract class SchedulerFrame extends JFrame implements Scheduler {
+    private static final int WIDTH = 1000;
+    private static final int HEIGHT = 500;
+    private static final int FLUSH_INTERVAL_MS = Integer.getInteger("scheduler.log.flushMillis", 100);
+    private static final int FLUSH_BATCH = 2_000;
+    private static final int MAX_EXECUTION_ORDER = 10_000;
+
+    private final GanttPanel graphPanel;
+    private final JTable statsTable;
+    private final JTextArea statsTextArea;
+    private final JTextArea executionHistoryTextArea;
+    private final Timer flushTimer;
+    private ScheduleResult shownResult;
+    private long nextEvent;
+
+    protected SchedulerFrame(String scheduleName, Workload workload) {
+        setTitle("CPU Scheduling Graph");
+        setSize(WIDTH, HEIGHT);
+        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        setLayout(new BorderLayout());
+
+        statsTextArea = new JTextArea();
+        statsTextArea.setEditable(false);
+        statsTextArea.setBackground(Color.LIGHT_GRAY);
+        statsTextArea.setText("Schedule Name: " + scheduleName + "\nAWT: 0\nATAT: 0");
+        JScrollPane statsScroll = new JScrollPane(statsTextArea);
+        statsScroll.setPreferredSize(new Dimension(WIDTH / 2, 60));
+        add(statsScroll, BorderLayout.SOUTH);
+
+        statsTable = new JTable(new WorkloadTableModel(workload));
+
+        TableColumnModel columnModel = statsTable.getColumnModel();
+        columnModel.getColumn(0).setPreferredWidth(100);
+        columnModel.getColumn(1).setPreferredWidth(100);
+        columnModel.getColumn(2).setPreferredWidth(100);
+        columnModel.getColumn(3).setPreferredWidth(100);
+        columnModel.getColumn(4).setPreferredWidth(100);
+        statsTable.setRowHeight(20);
+
+        statsTable.setPreferredScrollableViewportSize(new Dimension(500, 100));
+        statsTable.setAutoResizeMode(JTable.AUTO_RESIZE_OFF);
+
+        executionHistoryTextArea = new JTextArea();
+        executionHistoryTextArea.setEditable(false);
+        executionHistoryTextArea.setBackground(Color.WHITE);
+        executionHistoryTextArea.setText("Execution History:\n");
+        JScrollPane historyScroll = new JScrollPane(executionHistoryTextArea);
+        historyScroll.setPreferredSize(new Dimension(500, 300));
+
+        JPanel rightPanel = new JPanel();
+        rightPanel.setLayout(new BoxLayout(rightPanel, BoxLayout.Y_AXIS));
+
+        JScrollPane tableScroll = new JScrollPane(statsTable);
+        rightPanel.add(tableScroll);
+        rightPanel.add(historyScroll);
+
+        add(rightPanel, BorderLayout.EAST);
+
+        graphPanel = new GanttPanel(WIDTH, HEIGHT);
+
+        JScrollPane scrollPane = new JScrollPane(graphPanel);
+        scrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_ALWAYS);
+        scrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_NEVER);
+
+        JToolBar zoomBar = new JToolBar();
+        zoomBar.setFloatable(false);
+        JButton zoomOut = new JButton("-");
+        zoomOut.addActionListener(e -> graphPanel.zoomOut());
+        JButton zoomIn = new JButton("+");
+        zoomIn.addActionListener(e -> graphPanel.zoomIn());
+        JButton zoomToFit = new JButton("Fit");
+        zoomToFit.addActionListener(e -> graphPanel.zoomToFit());
+        zoomBar.add(new JLabel("Zoom: "));
+        zoomBar.add(zoomOut);
+        zoomBar.add(zoomIn);
+        zoomBar.add(zoomToFit);
+
+        JPanel chartPanel = new JPanel(new BorderLayout());
+        chartPanel.add(zoomBar, BorderLayout.NORTH);
+        chartPanel.add(scrollPane, BorderLayout.CENTER);
+
+        add(chartPanel, BorderLayout.CENTER);
+
+        flushTimer = new Timer(FLUSH_INTERVAL_MS, e -> flushEventLog());
+    }
+
+    @Override
+    public void showResult(ScheduleResult result) {
+        shownResult = result;
+        EventLog log = result.getEventLog();
+        nextEvent = log.getOldest();
+        if (log.getDropped() > 0) {
+            executionHistoryTextArea.append("... " + log.getDropped() + " earlier events were not kept\n");
+        }
+        graphPanel.setResult(result);
+        flushTimer.start();
+    }
+
+    @Override
+    public void updateStatistics(String scheduler, int n, double AWT, double ATAT) {
+        statsTextArea.setText("Scheduler Name: " + scheduler + "\nAWT: " + AWT + "\nATAT: " + ATAT);
+    }
+
+    @Override
+    public void updateExecutionHistory() {
+        if (shownResult != null && !flushTimer.isRunning()) {
+            flushTimer.start();
+        }
+    }
+
+    /**
+     * Appends the next batch of events to the history area. Once the whole log is shown
+     * the execution order is added and the timer stops.
+     */
+    private void flushEventLog() {
+        EventLog log = shownResult.getEventLog();
+        StringBuilder batch = new StringBuilder();
+        nextEvent = Math.max(nextEvent, log.getOldest());
+        long end = Math.min(log.getWritten(), nextEvent + FLUSH_BATCH);
+        for (; nextEvent < end; nextEvent++) {
+            if (log.appendTo(batch, nextEvent)) {
+                batch.append('\n');
+            }
+        }
+        if (log.isClosed() && nextEvent == log.getWritten()) {
+            appendExecutionOrder(batch, shownResult);
+            flushTimer.stop();
+        }
+        executionHistoryTextArea.append(batch.toString());
+    }
+
+    private static void appendExecutionOrder(StringBuilder out, ScheduleResult result) {
+        Timeline timeline = result.getTimeline();
+        Workload workload = result.getWorkload();
+        out.append("\nExecution order:");
+        int shown = 0;
+        for (int i = 0; i < timeline.size(); i++) {
+            if (timeline.isContextSwitch(i)) {
+                continue;
+            }
+            if (shown++ == MAX_EXECUTION_ORDER) {
+                out.append(" ...");
+                break;
+            }
+            out.append(" P").append(workload.id(timeline.processIndex(i)));
+        }
+        out.append('\n');
+    }
+
+    private static final class WorkloadTableModel extends AbstractTableModel {
+        private static final String[] COLUMN_NAMES = {"Process", "Name", "Priority", "BurstTime", "ArrivalTime"};
+
+        private final Workload workload;
+
+        WorkloadTableModel(Workload workload) {
+            this.workload = workload;
+        }
+
+        @Override
+        public int getRowCount() {
+            return workload.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMN_NAMES.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMN_NAMES[column];
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            switch (column) {
+                case 0:
+                    return "P" + workload.id(row);
+                case 1:
+                    return workload.name(row);
+                case 2:
+                    return workload.priority(row);
+                case 3:
+                    return workload.burstTime(row);
+                default:
+                    return workload.arrivalTime(row);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+import java.util.List;
+
+/**
+ * A scheduling algorithm without any user interface attached.
+ * The engine takes a workload and returns an immutable {@link ScheduleResult};
+ * viewers such as {@link SchedulerFrame} only display that result.
+ */
+public interface SchedulingEngine {
+    String getName();
+
+    default ScheduleResult run(List<ProcessSpec> processes) {
+        return run(Workload.of(processes), EventSink.NONE);
+    }
+
+    default ScheduleResult run(List<ProcessSpec> processes, EventSink events) {
+        return run(Workload.of(processes), events);
+    }
+
+    default ScheduleResult run(Workload workload) {
+        return run(workload, EventSink.NONE);
+    }
+
+    /**
+     * Runs the workload, passing every event to {@code events} as well as to the
+     * result's event log. The workload is only read, so it may be shared by runs on
+     * other threads, and it is read column by column: a workload that is not a list
+     * of specs is run without making any.
+     */
+    default ScheduleResult run(Workload workload, EventSink events) {
+        return run(workload, new EventLog(events));
+    }
+
+    /**
+     * Runs the workload, recording its events in {@code eventLog}, which becomes the
+     * result's log and is closed at the end of the run; pass a new log for each run.
+     * Batch runs whose logs nobody reads pass one at {@link EventLog.Level#OFF}.
+     */
+    ScheduleResult run(Workload workload, EventLog eventLog);
+}
@@ -0,0 +1,120 @@
+import javax.swing.*;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
+
+/**
+ * Runs a {@link SchedulingEngine} on a background thread so the event dispatch thread
+ * stays free while a long simulation runs.
+ * <p>
+ * If a {@link TraceWriter} is given, the run is traced to it and the trace is finished
+ * and closed on the worker thread as well.
+ * <p>
+ * The worker watches the events of the run to follow the simulated time and the number
+ * of completed processes, and publishes them at most every 100 ms. Cancelling the
+ * worker stops the engine at its next event.
+ */
+public class SimulationWorker extends SwingWorker<ScheduleResult, SimulationWorker.Progress> {
+    private static final long PUBLISH_INTERVAL_NANOS = 100_000_000L;
+    // cancellation and the clock are only looked at every this many events
+    private static final int CHECK_MASK = 1023;
+
+    /**
+     * Where a run has got to.
+     */
+    public static final class Progress {
+        private final int time;
+        private final int completed;
+        private final int total;
+
+        Progress(int time, int completed, int total) {
+            this.time = time;
+            this.completed = completed;
+            this.total = total;
+        }
+
+        public int getTime() {
+            return time;
+        }
+
+        public int getCompleted() {
+            return completed;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+    }
+
+    private final SchedulingEngine engine;
+    private final Workload workload;
+    private final TraceWriter trace;
+    private final Consumer<Progress> progressListener;
+    private int time;
+    private int completed;
+    private long checks;
+    private long lastPublish = System.nanoTime();
+
+    /**
+     * @param trace            receives the run, or null for no trace
+     * @param progressListener called on the event dispatch thread with the latest progress
+     */
+    public SimulationWorker(SchedulingEngine engine, List<ProcessSpec> processes, TraceWriter trace,
+                            Consumer<Progress> progressListener) {
+        this(engine, Workload.of(processes), trace, progressListener);
+    }
+
+    public SimulationWorker(SchedulingEngine engine, Workload workload, TraceWriter trace,
+                            Consumer<Progress> progressListener) {
+        this.engine = engine;
+        this.workload = workload;
+        this.trace = trace;
+        this.progressListener = progressListener;
+    }
+
+    @Override
+    protected ScheduleResult doInBackground() throws IOException {
+        if (trace == null) {
+            return runEngine();
+        }
+        try (TraceWriter writer = trace) {
+            ScheduleResult result = runEngine();
+            writer.finish(result);
+            return result;
+        }
+    }
+
+    private ScheduleResult runEngine() {
+        ScheduleResult result = engine.run(workload, this::onEvent);
+        publish(new Progress(time, completed, workload.size()));
+        return result;
+    }
+
+    private void onEvent(EventLog.Type type, int time, int processId, long value) {
+        if (trace != null) {
+            trace.record(type, time, processId, value);
+        }
+        this.time = Math.max(this.time, time);
+        if (type == EventLog.Type.COMPLETE) {
+            completed++;
+        }
+        if ((++checks & CHECK_MASK) != 0) {
+            return;
+        }
+        if (isCancelled()) {
+            throw new CancellationException();
+        }
+        long now = System.nanoTime();
+        if (now - lastPublish >= PUBLISH_INTERVAL_NANOS) {
+            lastPublish = now;
+            publish(new Progress(this.time, completed, workload.size()));
+        }
+    }
+
+    @Override
+    protected void process(List<Progress> chunks) {
+        // only the latest matters; older ones were superseded while the EDT was busy
+        progressListener.accept(chunks.get(chunks.size() - 1));
+    }
+}
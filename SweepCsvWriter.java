@@ -0,0 +1,37 @@
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * Streams {@link SweepResult}s to a CSV file, one line each as they arrive. Safe to
+ * call from the workers of a {@link ParameterSweep}.
+ */
+public final class SweepCsvWriter implements Consumer<SweepResult>, Closeable {
+    private final BufferedWriter out;
+
+    public SweepCsvWriter(Path file) throws IOException {
+        out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        out.write(String.join(",", SweepResult.COLUMNS));
+        out.newLine();
+    }
+
+    @Override
+    public synchronized void accept(SweepResult result) {
+        try {
+            out.write(result.toCsvLine());
+            out.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,69 @@
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Window that fills a sortable table with the results of a {@link ParameterSweep} while
+ * it runs. Results may arrive from any thread; they are queued and added to the table
+ * in batches on a Swing timer.
+ */
+public class SweepFrame extends JFrame implements Consumer<SweepResult> {
+    private static final int FLUSH_INTERVAL_MS = 200;
+
+    private final Queue<SweepResult> pending = new ConcurrentLinkedQueue<>();
+    private final DefaultTableModel model;
+    private final JLabel statusLabel = new JLabel();
+    private final Timer flushTimer;
+    private final int total;
+
+    public SweepFrame(int total) {
+        this.total = total;
+        setTitle("Parameter Sweep");
+        setSize(1000, 500);
+        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        setLayout(new BorderLayout());
+
+        model = new DefaultTableModel(SweepResult.COLUMNS, 0) {
+            @Override
+            public Class<?> getColumnClass(int column) {
+                return SweepResult.COLUMN_CLASSES[column];
+            }
+
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        JTable table = new JTable(model);
+        table.setAutoCreateRowSorter(true);
+        add(new JScrollPane(table), BorderLayout.CENTER);
+        add(statusLabel, BorderLayout.SOUTH);
+        updateStatus();
+
+        flushTimer = new Timer(FLUSH_INTERVAL_MS, e -> flush());
+        flushTimer.start();
+    }
+
+    @Override
+    public void accept(SweepResult result) {
+        pending.add(result);
+    }
+
+    private void flush() {
+        SweepResult result;
+        while ((result = pending.poll()) != null) {
+            model.addRow(result.toRow());
+        }
+        updateStatus();
+        if (model.getRowCount() == total) {
+            flushTimer.stop();
+        }
+    }
+
+    private void updateStatus() {
+        statusLabel.setText(" " + model.getRowCount() + " of " + total + " runs done");
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Outcome of one point of a {@link ParameterSweep}: the algorithm, the parameters it
+ * ran with and the resulting statistics. Parameters that do not apply to the algorithm
+ * are null.
+ */
+public final class SweepResult {
+    static final String[] COLUMNS = {"Algorithm", "Quantum", "Split", "V1 Divisor", "V2 Divisor",
+            "Context Switch", "Aging", "AWT", "ATAT", "Makespan", "Context Switches"};
+    static final Class<?>[] COLUMN_CLASSES = {String.class, Integer.class, Double.class, Double.class, Double.class,
+            Integer.class, Integer.class, Double.class, Double.class, Integer.class, Integer.class};
+
+    private final String algorithm;
+    private final Integer quantum;
+    private final Double quantumSplit;
+    private final Double v1Divisor;
+    private final Double v2Divisor;
+    private final Integer contextSwitchTime;
+    private final Integer agingThreshold;
+    private final double averageWaitingTime;
+    private final double averageTurnaroundTime;
+    private final int makespan;
+    private final int contextSwitches;
+
+    SweepResult(String algorithm, Integer quantum, Double quantumSplit, Double v1Divisor, Double v2Divisor,
+                Integer contextSwitchTime, Integer agingThreshold, ScheduleResult result) {
+        this.algorithm = algorithm;
+        this.quantum = quantum;
+        this.quantumSplit = quantumSplit;
+        this.v1Divisor = v1Divisor;
+        this.v2Divisor = v2Divisor;
+        this.contextSwitchTime = contextSwitchTime;
+        this.agingThreshold = agingThreshold;
+        this.averageWaitingTime = result.getAverageWaitingTime();
+        this.averageTurnaroundTime = result.getAverageTurnaroundTime();
+        this.makespan = result.getMakespan();
+        this.contextSwitches = result.getContextSwitchCount();
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public double getAverageWaitingTime() {
+        return averageWaitingTime;
+    }
+
+    public double getAverageTurnaroundTime() {
+        return averageTurnaroundTime;
+    }
+
+    public int getMakespan() {
+        return makespan;
+    }
+
+    public int getContextSwitches() {
+        return contextSwitches;
+    }
+
+    /**
+     * The values in the order of {@link #COLUMNS}.
+     */
+    public Object[] toRow() {
+        return new Object[]{algorithm, quantum, quantumSplit, v1Divisor, v2Divisor, contextSwitchTime,
+                agingThreshold, averageWaitingTime, averageTurnaroundTime, makespan, contextSwitches};
+    }
+
+    public String toCsvLine() {
+        StringBuilder line = new StringBuilder();
+        for (Object value : toRow()) {
+            if (line.length() > 0) {
+                line.append(',');
+            }
+            if (value != null) {
+                line.append(value);
+            }
+        }
+        return line.toString();
+    }
+
+    /**
+     * The parameters in a short readable form, e.g. {@code cs=1 aging=5}.
+     */
+    public String describeParameters() {
+        StringBuilder text = new StringBuilder();
+        append(text, "quantum", quantum);
+        append(text, "split", quantumSplit);
+        append(text, "v1", v1Divisor);
+        append(text, "v2", v2Divisor);
+        append(text, "cs", contextSwitchTime);
+        append(text, "aging", agingThreshold);
+        return text.length() == 0 ? "-" : text.toString();
+    }
+
+    private static void append(StringBuilder text, String name, Object value) {
+        if (value != null) {
+            text.append(text.length() == 0 ? "" : " ").append(name).append('=').append(value);
+        }
+    }
+}
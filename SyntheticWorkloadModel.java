@@ -0,0 +1,239 @@
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded generator of realistic synthetic workloads.
+ * <p>
+ * Arrivals are a Poisson process, or bursty: an on/off source that sends at
+ * {@code burstiness} times the mean rate while on and nothing while off, with the
+ * same long-run rate. Burst times are heavy tailed (Pareto or lognormal with the given
+ * mean), priorities follow a weighted distribution and quanta are uniform.
+ * <p>
+ * {@link #stream(long)} produces the processes lazily in arrival order with constant
+ * memory, so very large workloads can be fed to anything that consumes them one at a
+ * time. {@link #generateWorkload(long)} writes the same sequence straight into int
+ * columns that the engines run without a spec per process, and {@link #generate(long)}
+ * collects it into a list. All three give the same processes for the same seed.
+ */
+public class SyntheticWorkloadModel implements WorkloadModel {
+    public enum ArrivalPattern {
+        POISSON, BURSTY
+    }
+
+    public enum BurstDistribution {
+        PARETO, LOGNORMAL
+    }
+
+    private final int processCount;
+    private final double arrivalRate;
+    private ArrivalPattern arrivalPattern = ArrivalPattern.POISSON;
+    private double burstiness = 5;
+    private double meanOnTime = 50;
+    private BurstDistribution burstDistribution = BurstDistribution.PARETO;
+    private double meanBurst = 10;
+    private double burstShape = 2.5;
+    private int maxBurst = 1_000_000;
+    private double[] priorityWeights = {1, 1, 1, 1, 1, 1, 1, 1, 1, 1};
+    private int minQuantum = 1;
+    private int maxQuantum = 8;
+
+    /**
+     * @param arrivalRate mean number of arrivals per time unit
+     */
+    public SyntheticWorkloadModel(int processCount, double arrivalRate) {
+        if (processCount < 0 || !(arrivalRate > 0)) {
+            throw new IllegalArgumentException("need a non-negative process count and a positive arrival rate");
+        }
+        this.processCount = processCount;
+        this.arrivalRate = arrivalRate;
+    }
+
+    /**
+     * Bursty arrivals: on periods averaging {@code meanOnTime} at {@code burstiness}
+     * times the mean rate, separated by silent off periods.
+     */
+    public void setBurstyArrivals(double burstiness, double meanOnTime) {
+        if (!(burstiness > 1) || !(meanOnTime > 0)) {
+            throw new IllegalArgumentException("burstiness must be above 1 and the on time positive");
+        }
+        this.arrivalPattern = ArrivalPattern.BURSTY;
+        this.burstiness = burstiness;
+        this.meanOnTime = meanOnTime;
+    }
+
+    public void setPoissonArrivals() {
+        this.arrivalPattern = ArrivalPattern.POISSON;
+    }
+
+    /**
+     * @param shape Pareto tail index (above 1, smaller is heavier) or lognormal sigma
+     */
+    public void setBurstDistribution(BurstDistribution distribution, double meanBurst, double shape) {
+        if (!(meanBurst >= 1) || !(shape > 0) || distribution == BurstDistribution.PARETO && !(shape > 1)) {
+            throw new IllegalArgumentException("invalid burst distribution parameters");
+        }
+        this.burstDistribution = distribution;
+        this.meanBurst = meanBurst;
+        this.burstShape = shape;
+    }
+
+    /**
+     * Burst times are cut off at this value so the heavy tail stays within int time.
+     */
+    public void setMaxBurst(int maxBurst) {
+        this.maxBurst = maxBurst;
+    }
+
+    /**
+     * Relative frequency of priority 0, 1, 2, ...
+     */
+    public void setPriorityWeights(double... priorityWeights) {
+        if (priorityWeights.length == 0) {
+            throw new IllegalArgumentException("need at least one priority");
+        }
+        this.priorityWeights = priorityWeights.clone();
+    }
+
+    public void setQuantumRange(int minQuantum, int maxQuantum) {
+        if (minQuantum < 1 || maxQuantum < minQuantum) {
+            throw new IllegalArgumentException("invalid quantum range");
+        }
+        this.minQuantum = minQuantum;
+        this.maxQuantum = maxQuantum;
+    }
+
+    @Override
+    public List<ProcessSpec> generate(long seed) {
+        List<ProcessSpec> processes = new ArrayList<>(processCount);
+        stream(seed).forEachRemaining(processes::add);
+        return processes;
+    }
+
+    @Override
+    public Workload generateWorkload(long seed) {
+        int[] priorities = new int[processCount];
+        int[] arrivals = new int[processCount];
+        int[] bursts = new int[processCount];
+        int[] quanta = new int[processCount];
+        Generator generator = new Generator(seed);
+        for (int i = 0; i < processCount; i++) {
+            generator.advance();
+            priorities[i] = generator.priority;
+            arrivals[i] = generator.arrival;
+            bursts[i] = generator.burst;
+            quanta[i] = generator.quantum;
+        }
+        return new GeneratedWorkload(priorities, arrivals, bursts, quanta);
+    }
+
+    /**
+     * The workload for {@code seed}, generated one process at a time in arrival order.
+     */
+    public Iterator<ProcessSpec> stream(long seed) {
+        return new Generator(seed);
+    }
+
+    private final class Generator implements Iterator<ProcessSpec> {
+        private final SplittableRandom random;
+        private final double[] cumulativeWeights;
+        private final double paretoScale;
+        private final double lognormalMu;
+        private int generated;
+        private double time;
+        private double onUntil;
+        // the fields of the process drawn last
+        int arrival;
+        int burst;
+        int priority;
+        int quantum;
+
+        Generator(long seed) {
+            random = new SplittableRandom(seed);
+            cumulativeWeights = new double[priorityWeights.length];
+            double total = 0;
+            for (int i = 0; i < priorityWeights.length; i++) {
+                total += priorityWeights[i];
+                cumulativeWeights[i] = total;
+            }
+            // scale and location that give the requested mean
+            paretoScale = meanBurst * (burstShape - 1) / burstShape;
+            lognormalMu = Math.log(meanBurst) - burstShape * burstShape / 2;
+            onUntil = random.nextExponential() * meanOnTime;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return generated < processCount;
+        }
+
+        @Override
+        public ProcessSpec next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            advance();
+            return new ProcessSpec(generated, "P" + generated, Palette.get(generated - 1), priority, arrival,
+                    burst, quantum);
+        }
+
+        /**
+         * Draws the next process into the fields, without making a spec.
+         */
+        void advance() {
+            generated++;
+            arrival = nextArrival();
+            burst = nextBurst();
+            priority = nextPriority();
+            quantum = random.nextInt(minQuantum, maxQuantum + 1);
+        }
+
+        private int nextArrival() {
+            if (generated == 1) {
+                return 0;
+            }
+            if (arrivalPattern == ArrivalPattern.POISSON) {
+                time += random.nextExponential() / arrivalRate;
+            } else {
+                double onRate = arrivalRate * burstiness;
+                double meanOffTime = meanOnTime * (burstiness - 1);
+                double next = time + random.nextExponential() / onRate;
+                // exponential gaps are memoryless: skip the off period and draw again
+                while (next > onUntil) {
+                    time = onUntil + random.nextExponential() * meanOffTime;
+                    onUntil = time + random.nextExponential() * meanOnTime;
+                    next = time + random.nextExponential() / onRate;
+                }
+                time = next;
+            }
+            return (int) Math.min(Integer.MAX_VALUE, Math.floor(time));
+        }
+
+        private int nextBurst() {
+            double burst;
+            if (burstDistribution == BurstDistribution.PARETO) {
+                burst = paretoScale * Math.pow(1 - random.nextDouble(), -1 / burstShape);
+            } else {
+                burst = Math.exp(lognormalMu + burstShape * random.nextGaussian());
+            }
+            return (int) Math.max(1, Math.min(maxBurst, Math.round(burst)));
+        }
+
+        private int nextPriority() {
+            double u = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+            int low = 0;
+            int high = cumulativeWeights.length - 1;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (cumulativeWeights[middle] > u) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least-recently-used cache of rendered image tiles, bounded by the memory the
+ * pixels take rather than by the number of tiles.
+ */
+public final class TileCache {
+    private final long maxBytes;
+    private final LinkedHashMap<Long, BufferedImage> tiles = new LinkedHashMap<>(64, 0.75f, true);
+    private long bytes;
+
+    public TileCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public static long key(int level, int tileIndex) {
+        return ((long) level << 32) | (tileIndex & 0xffffffffL);
+    }
+
+    public BufferedImage get(long key) {
+        return tiles.get(key);
+    }
+
+    public void put(long key, BufferedImage tile) {
+        BufferedImage previous = tiles.put(key, tile);
+        if (previous != null) {
+            bytes -= sizeOf(previous);
+        }
+        bytes += sizeOf(tile);
+        Iterator<Map.Entry<Long, BufferedImage>> eldest = tiles.entrySet().iterator();
+        // never evict the tile that was just added, even if it alone is over budget
+        while (bytes > maxBytes && tiles.size() > 1) {
+            Map.Entry<Long, BufferedImage> entry = eldest.next();
+            bytes -= sizeOf(entry.getValue());
+            eldest.remove();
+        }
+    }
+
+    public void clear() {
+        tiles.clear();
+        bytes = 0;
+    }
+
+    public int size() {
+        return tiles.size();
+    }
+
+    private static long sizeOf(BufferedImage tile) {
+        return (long) tile.getWidth() * tile.getHeight() * 4;
+    }
+}
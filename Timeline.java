@@ -0,0 +1,79 @@
+/**
+ * Execution timeline of a run stored column by column: for every slice the index of
+ * the process that ran (into {@link ScheduleResult#getWorkload()}, or
+ * {@link #CONTEXT_SWITCH}), its start time and its end time.
+ * <p>
+ * Slices are appended in time order and never overlap, so both start and end times
+ * are sorted and a time range can be located with a binary search.
+ */
+public abstract class Timeline {
+    public static final int CONTEXT_SWITCH = -1;
+
+    public interface SliceVisitor {
+        void visit(int processIndex, int startTime, int endTime);
+    }
+
+    public abstract int size();
+
+    public abstract int processIndex(int slice);
+
+    public abstract int startTime(int slice);
+
+    public abstract int endTime(int slice);
+
+    public abstract void append(int processIndex, int startTime, int endTime);
+
+    /**
+     * Moves the end of {@code slice}; used to extend the last slice while recording.
+     */
+    abstract void setEndTime(int slice, int endTime);
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public boolean isContextSwitch(int slice) {
+        return processIndex(slice) == CONTEXT_SWITCH;
+    }
+
+    /**
+     * End time of the last slice, or 0 for an empty timeline.
+     */
+    public int getMaxTime() {
+        return isEmpty() ? 0 : endTime(size() - 1);
+    }
+
+    /**
+     * Index of the first slice that ends after {@code time}, or {@link #size()} if none does.
+     */
+    public int firstSliceEndingAfter(int time) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (endTime(mid) <= time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public void forEach(SliceVisitor visitor) {
+        int n = size();
+        for (int i = 0; i < n; i++) {
+            visitor.visit(processIndex(i), startTime(i), endTime(i));
+        }
+    }
+
+    /**
+     * Visits the slices that overlap the time range {@code [from, to)}.
+     */
+    public void forEachBetween(int from, int to, SliceVisitor visitor) {
+        int n = size();
+        for (int i = firstSliceEndingAfter(from); i < n && startTime(i) < to; i++) {
+            visitor.visit(processIndex(i), startTime(i), endTime(i));
+        }
+    }
+}
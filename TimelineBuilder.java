@@ -0,0 +1,60 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Collects the execution timeline of a run. Slices of the same process that touch or
+ * overlap the previous one are merged into it as they are recorded, so the timeline
+ * grows with the number of dispatches rather than with the number of time units.
+ * <p>
+ * The slices are kept in an {@link ArrayTimeline}. When the system property
+ * {@code scheduler.timeline.spillAfter} is set, a timeline that grows past that many
+ * slices is moved to a temporary {@link MappedTimeline} and continues there.
+ */
+public final class TimelineBuilder {
+    private static final int SPILL_AFTER = Integer.getInteger("scheduler.timeline.spillAfter", Integer.MAX_VALUE);
+
+    private Timeline timeline = new ArrayTimeline();
+
+    /**
+     * @param processIndex index of the process in the list the result will hold
+     */
+    public void record(int processIndex, int startTime, int endTime) {
+        if (endTime <= startTime) {
+            return;
+        }
+        int last = timeline.size() - 1;
+        if (last >= 0 && processIndex != Timeline.CONTEXT_SWITCH
+                && timeline.processIndex(last) == processIndex && timeline.endTime(last) >= startTime) {
+            timeline.setEndTime(last, Math.max(timeline.endTime(last), endTime));
+            return;
+        }
+        if (timeline.size() == SPILL_AFTER) {
+            spill();
+        }
+        timeline.append(processIndex, startTime, endTime);
+    }
+
+    public void recordContextSwitch(int startTime, int endTime) {
+        record(Timeline.CONTEXT_SWITCH, startTime, endTime);
+    }
+
+    public boolean isEmpty() {
+        return timeline.isEmpty();
+    }
+
+    public Timeline build() {
+        return timeline;
+    }
+
+    private void spill() {
+        try {
+            MappedTimeline mapped = MappedTimeline.createTemporary();
+            for (int i = 0; i < timeline.size(); i++) {
+                mapped.append(timeline.processIndex(i), timeline.startTime(i), timeline.endTime(i));
+            }
+            timeline = mapped;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not spill the timeline to disk", e);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Multi-resolution summary of a {@link Timeline} for drawing zoomed-out Gantt charts.
+ * <p>
+ * Level 0 splits the run into buckets of {@link #getBaseBucketWidth()} time units and
+ * records for each bucket the dominant process (the one that ran longest in it), how
+ * long it ran, how many times the CPU switched to a different process and how much of
+ * the bucket the CPU spent running processes. Every further level halves the number
+ * of buckets by merging pairs, down to a single bucket for the whole run. A merged
+ * bucket takes the dominant process of whichever half had the longer-running one.
+ * <p>
+ * Building the pyramid is a single pass over the slices plus O(buckets) work, and the
+ * number of level-0 buckets is capped, so a whole-run overview always reads a small,
+ * fixed number of buckets however long the run was.
+ */
+public final class TimelinePyramid {
+    public static final int NONE = -2;
+    private static final int MAX_BASE_BUCKETS = 1 << 16;
+
+    private final int baseBucketWidth;
+    private final int maxTime;
+    private final int[][] dominant;
+    private final int[][] dominantTime;
+    private final int[][] switches;
+    private final int[][] busyTime;
+
+    public TimelinePyramid(Timeline timeline) {
+        maxTime = timeline.getMaxTime();
+        baseBucketWidth = Math.max(1, (int) ((maxTime + (long) MAX_BASE_BUCKETS - 1) / MAX_BASE_BUCKETS));
+        int baseBuckets = Math.max(1, (maxTime + baseBucketWidth - 1) / baseBucketWidth);
+
+        int levels = 1;
+        for (int n = baseBuckets; n > 1; n = (n + 1) / 2) {
+            levels++;
+        }
+        dominant = new int[levels][];
+        dominantTime = new int[levels][];
+        switches = new int[levels][];
+        busyTime = new int[levels][];
+
+        buildBaseLevel(timeline, baseBuckets);
+        for (int level = 1; level < levels; level++) {
+            mergeLevel(level);
+        }
+    }
+
+    private void buildBaseLevel(Timeline timeline, int buckets) {
+        int[] dom = new int[buckets];
+        int[] domTime = new int[buckets];
+        int[] sw = new int[buckets];
+        int[] busy = new int[buckets];
+        Arrays.fill(dom, NONE);
+
+        // occupancy of the bucket that is only partly covered so far
+        Map<Integer, Integer> partial = new HashMap<>();
+        int partialBucket = -1;
+        int previousProcess = NONE;
+
+        int n = timeline.size();
+        for (int i = 0; i < n; i++) {
+            int process = timeline.processIndex(i);
+            if (process == Timeline.CONTEXT_SWITCH) {
+                continue;
+            }
+            int start = timeline.startTime(i);
+            int end = timeline.endTime(i);
+            if (process != previousProcess && previousProcess != NONE) {
+                sw[start / baseBucketWidth]++;
+            }
+            previousProcess = process;
+
+            for (int bucket = start / baseBucketWidth; bucket <= (end - 1) / baseBucketWidth; bucket++) {
+                int bucketStart = bucket * baseBucketWidth;
+                int overlap = Math.min(end, bucketStart + baseBucketWidth) - Math.max(start, bucketStart);
+                busy[bucket] += overlap;
+                if (overlap == baseBucketWidth) {
+                    dom[bucket] = process;
+                    domTime[bucket] = overlap;
+                    continue;
+                }
+                if (bucket != partialBucket) {
+                    partial.clear();
+                    partialBucket = bucket;
+                }
+                int total = partial.merge(process, overlap, Integer::sum);
+                if (total > domTime[bucket]) {
+                    dom[bucket] = process;
+                    domTime[bucket] = total;
+                }
+            }
+        }
+        dominant[0] = dom;
+        dominantTime[0] = domTime;
+        switches[0] = sw;
+        busyTime[0] = busy;
+    }
+
+    private void mergeLevel(int level) {
+        int[] childDom = dominant[level - 1];
+        int children = childDom.length;
+        int buckets = (children + 1) / 2;
+        int[] dom = new int[buckets];
+        int[] domTime = new int[buckets];
+        int[] sw = new int[buckets];
+        int[] busy = new int[buckets];
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            int left = 2 * bucket;
+            int right = left + 1;
+            dom[bucket] = childDom[left];
+            domTime[bucket] = dominantTime[level - 1][left];
+            sw[bucket] = switches[level - 1][left];
+            busy[bucket] = busyTime[level - 1][left];
+            if (right < children) {
+                if (dominantTime[level - 1][right] > domTime[bucket]) {
+                    dom[bucket] = childDom[right];
+                    domTime[bucket] = dominantTime[level - 1][right];
+                }
+                sw[bucket] += switches[level - 1][right];
+                busy[bucket] += busyTime[level - 1][right];
+            }
+        }
+        dominant[level] = dom;
+        dominantTime[level] = domTime;
+        switches[level] = sw;
+        busyTime[level] = busy;
+    }
+
+    public int getLevels() {
+        return dominant.length;
+    }
+
+    public int getBaseBucketWidth() {
+        return baseBucketWidth;
+    }
+
+    /**
+     * Time units covered by one bucket of {@code level}.
+     */
+    public long bucketWidth(int level) {
+        return (long) baseBucketWidth << level;
+    }
+
+    public int bucketCount(int level) {
+        return dominant[level].length;
+    }
+
+    /**
+     * Coarsest level whose buckets are still no wider than {@code maxUnits} time units,
+     * or 0 if even level-0 buckets are wider.
+     */
+    public int levelFor(double maxUnits) {
+        int level = 0;
+        while (level + 1 < getLevels() && bucketWidth(level + 1) <= maxUnits) {
+            level++;
+        }
+        return level;
+    }
+
+    /**
+     * Process that ran longest in the bucket, or {@link #NONE} if the CPU ran no process.
+     */
+    public int dominantProcess(int level, int bucket) {
+        return dominant[level][bucket];
+    }
+
+    public int switchCount(int level, int bucket) {
+        return switches[level][bucket];
+    }
+
+    /**
+     * Fraction of the bucket in which the CPU ran no process (idle or switching).
+     */
+    public double idleFraction(int level, int bucket) {
+        long start = bucket * bucketWidth(level);
+        long length = Math.min(bucketWidth(level), maxTime - start);
+        if (length <= 0) {
+            return 1;
+        }
+        return 1 - (double) busyTime[level][bucket] / length;
+    }
+}
@@ -0,0 +1,30 @@
+/**
+ * Layout of a binary event trace, written by {@link TraceWriter} and read by
+ * {@link TraceReplayer}. All numbers are big-endian.
+ * <pre>
+ * header   magic (int), version (int), algorithm (string), process count (int),
+ *          then per process: id, priority, arrival, burst, quantum, colour RGB (ints)
+ *          and name (string)
+ * records  fixed 20 bytes each: type (int), time (int), process (int), value (long)
+ * </pre>
+ * A string is a length (int) followed by that many UTF-8 bytes.
+ * <p>
+ * Event records use the ordinal of the {@link EventLog.Type} as type, the process id
+ * and the value as passed to {@link EventLog#record}. After the events come the slices
+ * of the timeline ({@link #SLICE}: start time, index of the process in the header or
+ * {@link Timeline#CONTEXT_SWITCH}, end time as value), one {@link #COMPLETION} per
+ * process (completion time, index of the process in the header, waiting time in the
+ * high and turnaround time in the low half of the value) and one {@link #END} record
+ * whose value is the number of records before it, so a truncated file is recognised.
+ */
+final class TraceFormat {
+    static final int MAGIC = 0x53434854; // "SCHT"
+    static final int VERSION = 2;
+    static final int RECORD_BYTES = 20;
+    static final int SLICE = 0x100;
+    static final int COMPLETION = 0x101;
+    static final int END = 0x1FF;
+
+    private TraceFormat() {
+    }
+}
@@ -0,0 +1,164 @@
+import java.awt.Color;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rebuilds a {@link ScheduleResult} from a trace written by {@link TraceWriter}: the
+ * processes from the header, the event log from the event records, the timeline from
+ * the slice records and the completion times from the completion records. The
+ * algorithm is not run again.
+ * <p>
+ * The file is mapped a window at a time as it is read, so traces larger than a single
+ * mapping can hold are read too.
+ */
+public final class TraceReplayer {
+    private static final EventLog.Type[] TYPES = EventLog.Type.values();
+    private static final long WINDOW_BYTES = 1L << 26;
+
+    private TraceReplayer() {
+    }
+
+    public static ScheduleResult load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return read(new Input(file, channel));
+        }
+    }
+
+    private static ScheduleResult read(Input in) throws IOException {
+        if (in.remaining() < 2 * Integer.BYTES || in.getInt() != TraceFormat.MAGIC) {
+            throw new IOException("not a schedule trace");
+        }
+        int version = in.getInt();
+        if (version != TraceFormat.VERSION) {
+            throw new IOException("unsupported trace version " + version);
+        }
+        String algorithm = getString(in);
+        int count = in.getInt();
+        if (count < 0) {
+            throw new IOException("corrupt process count " + count);
+        }
+        List<ProcessSpec> processes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int id = in.getInt();
+            int priority = in.getInt();
+            int arrival = in.getInt();
+            int burst = in.getInt();
+            int quantum = in.getInt();
+            Color color = new Color(in.getInt(), true);
+            processes.add(new ProcessSpec(id, getString(in), color, priority, arrival, burst, quantum));
+        }
+        int[] completionTimes = new int[count];
+        int[] turnaroundTimes = new int[count];
+        int[] waitingTimes = new int[count];
+
+        EventLog eventLog = new EventLog();
+        TimelineBuilder timeline = new TimelineBuilder();
+        long records = 0;
+        while (true) {
+            int type = in.getInt();
+            int time = in.getInt();
+            int process = in.getInt();
+            long value = in.getLong();
+            if (type == TraceFormat.END) {
+                if (value != records) {
+                    throw new IOException("trace holds " + records + " records, its end record says " + value);
+                }
+                break;
+            }
+            records++;
+            if (type == TraceFormat.SLICE) {
+                if (process == Timeline.CONTEXT_SWITCH) {
+                    timeline.recordContextSwitch(time, (int) value);
+                } else {
+                    timeline.record(process, time, (int) value);
+                }
+            } else if (type == TraceFormat.COMPLETION) {
+                if (process < 0 || process >= count) {
+                    throw new IOException("completion of unknown process " + process);
+                }
+                completionTimes[process] = time;
+                waitingTimes[process] = (int) (value >> 32);
+                turnaroundTimes[process] = (int) value;
+            } else if (type >= 0 && type < TYPES.length) {
+                eventLog.record(TYPES[type], time, process, value);
+            } else {
+                throw new IOException("unknown record type " + type);
+            }
+        }
+        eventLog.close();
+        return new ScheduleResult(algorithm, Workload.of(processes), completionTimes, turnaroundTimes, waitingTimes,
+                timeline.build(), eventLog);
+    }
+
+    private static String getString(Input in) throws IOException {
+        int length = in.getInt();
+        if (length < 0 || length > in.remaining()) {
+            throw new IOException("corrupt string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Big-endian input over a file that is mapped in windows of {@link #WINDOW_BYTES},
+     * each starting where the previous one was read up to.
+     */
+    private static final class Input {
+        private final Path file;
+        private final FileChannel channel;
+        private final long size;
+        private MappedByteBuffer window;
+        private long windowStart;
+
+        Input(Path file, FileChannel channel) throws IOException {
+            this.file = file;
+            this.channel = channel;
+            this.size = channel.size();
+        }
+
+        long remaining() {
+            return size - position();
+        }
+
+        int getInt() throws IOException {
+            return window(Integer.BYTES).getInt();
+        }
+
+        long getLong() throws IOException {
+            return window(Long.BYTES).getLong();
+        }
+
+        void get(byte[] bytes) throws IOException {
+            int read = 0;
+            while (read < bytes.length) {
+                int chunk = (int) Math.min(WINDOW_BYTES, bytes.length - read);
+                window(chunk).get(bytes, read, chunk);
+                read += chunk;
+            }
+        }
+
+        private long position() {
+            return window == null ? 0 : windowStart + window.position();
+        }
+
+        private MappedByteBuffer window(int bytes) throws IOException {
+            if (window != null && window.remaining() >= bytes) {
+                return window;
+            }
+            long position = position();
+            if (size - position < bytes) {
+                throw new IOException(file + " is truncated");
+            }
+            windowStart = position;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(WINDOW_BYTES, size - position));
+            return window;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Writes the events of one run to a binary trace file (see {@link TraceFormat})
+ * through a buffered file channel. Pass it to {@link SchedulingEngine#run(Workload, EventSink)}
+ * and hand the result to {@link #finish(ScheduleResult)} afterwards, which adds the
+ * timeline and completes the file.
+ */
+public final class TraceWriter implements EventSink, Closeable {
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    private long records;
+
+    public TraceWriter(Path file, String algorithm, List<ProcessSpec> processes) throws IOException {
+        this(file, algorithm, Workload.of(processes));
+    }
+
+    /**
+     * Creates the file and writes its header.
+     *
+     * @param workload the workload that will be run; the result handed to
+     *                 {@link #finish} must be of a run of this workload
+     */
+    public TraceWriter(Path file, String algorithm, Workload workload) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            buffer.putInt(TraceFormat.MAGIC);
+            buffer.putInt(TraceFormat.VERSION);
+            putString(algorithm);
+            buffer.putInt(workload.size());
+            for (int i = 0; i < workload.size(); i++) {
+                ensureRoom(6 * Integer.BYTES);
+                buffer.putInt(workload.id(i));
+                buffer.putInt(workload.priority(i));
+                buffer.putInt(workload.arrivalTime(i));
+                buffer.putInt(workload.burstTime(i));
+                buffer.putInt(workload.quantum(i));
+                buffer.putInt(workload.color(i).getRGB());
+                putString(workload.name(i));
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void record(EventLog.Type type, int time, int processId, long value) {
+        try {
+            putRecord(type.ordinal(), time, processId, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends the timeline and the completion times of the finished run and the end
+     * record, and flushes the file.
+     */
+    public void finish(ScheduleResult result) throws IOException {
+        // results keep the order of the workload, so the timeline's process indices and
+        // the result's slots are already positions in the header
+        Timeline timeline = result.getTimeline();
+        for (int i = 0; i < timeline.size(); i++) {
+            putRecord(TraceFormat.SLICE, timeline.startTime(i), timeline.processIndex(i), timeline.endTime(i));
+        }
+        for (int i = 0; i < result.size(); i++) {
+            putRecord(TraceFormat.COMPLETION, result.getCompletionTime(i), i,
+                    (long) result.getWaitingTime(i) << 32 | (result.getTurnaroundTime(i) & 0xFFFFFFFFL));
+        }
+        putRecord(TraceFormat.END, 0, 0, records);
+        flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void putRecord(int type, int time, int process, long value) throws IOException {
+        ensureRoom(TraceFormat.RECORD_BYTES);
+        buffer.putInt(type);
+        buffer.putInt(time);
+        buffer.putInt(process);
+        buffer.putLong(value);
+        records++;
+    }
+
+    private void putString(String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        ensureRoom(Integer.BYTES);
+        buffer.putInt(bytes.length);
+        int written = 0;
+        while (written < bytes.length) {
+            ensureRoom(1);
+            int chunk = Math.min(buffer.remaining(), bytes.length - written);
+            buffer.put(bytes, written, chunk);
+            written += chunk;
+        }
+    }
+
+    private void ensureRoom(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,111 @@
+import java.awt.Color;
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * The processes of a workload, read field by field: process {@code i}'s fields come
+ * straight from wherever the workload keeps them, such as the columns of a
+ * {@link MappedWorkload} or of a generated workload, without a {@link ProcessSpec} per
+ * process. Engines copy what they need into a {@link ProcessTable}.
+ * <p>
+ * A workload is only ever read, so one can be run by several engines at once.
+ */
+public interface Workload {
+    int size();
+
+    int id(int index);
+
+    String name(int index);
+
+    Color color(int index);
+
+    int priority(int index);
+
+    int arrivalTime(int index);
+
+    int burstTime(int index);
+
+    int quantum(int index);
+
+    /**
+     * A spec of process {@code index}, made on each call.
+     */
+    default ProcessSpec get(int index) {
+        return new ProcessSpec(id(index), name(index), color(index), priority(index), arrivalTime(index),
+                burstTime(index), quantum(index));
+    }
+
+    /**
+     * The processes as a read-only list whose elements are made by {@link #get} as they
+     * are read; a workload made from a list returns that list.
+     */
+    default List<ProcessSpec> asList() {
+        return new AbstractList<ProcessSpec>() {
+            @Override
+            public ProcessSpec get(int index) {
+                return Workload.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return Workload.this.size();
+            }
+        };
+    }
+
+    /**
+     * The same workload with every initial quantum set to {@code quantum}.
+     */
+    default Workload withQuantum(int quantum) {
+        Workload workload = this;
+        return new Workload() {
+            @Override
+            public int size() {
+                return workload.size();
+            }
+
+            @Override
+            public int id(int index) {
+                return workload.id(index);
+            }
+
+            @Override
+            public String name(int index) {
+                return workload.name(index);
+            }
+
+            @Override
+            public Color color(int index) {
+                return workload.color(index);
+            }
+
+            @Override
+            public int priority(int index) {
+                return workload.priority(index);
+            }
+
+            @Override
+            public int arrivalTime(int index) {
+                return workload.arrivalTime(index);
+            }
+
+            @Override
+            public int burstTime(int index) {
+                return workload.burstTime(index);
+            }
+
+            @Override
+            public int quantum(int index) {
+                return quantum;
+            }
+        };
+    }
+
+    /**
+     * A workload over {@code processes}, taken as they are now: later changes to the
+     * list do not show.
+     */
+    static Workload of(List<ProcessSpec> processes) {
+        return new ListWorkload(processes);
+    }
+}
@@ -0,0 +1,18 @@
+import java.io.IOException;
+
+/**
+ * A workload file could not be read because of its content. The message names the
+ * file and line.
+ */
+public class WorkloadFormatException extends IOException {
+    private final long line;
+
+    public WorkloadFormatException(String file, long line, String message) {
+        super(file + ":" + line + ": " + message);
+        this.line = line;
+    }
+
+    public long getLine() {
+        return line;
+    }
+}
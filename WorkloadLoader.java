@@ -0,0 +1,643 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads workloads from CSV or JSON files, and opens binary {@code .wkl} workloads
+ * (see {@link MappedWorkload}).
+ * <p>
+ * CSV files have one process per line. A first line that starts with a letter is a
+ * header naming the columns ({@code id}, {@code name}, {@code priority},
+ * {@code arrival}, {@code burst}, {@code quantum}, in any order; other columns are
+ * ignored); without one the columns are {@code id,name,priority,arrival,burst[,quantum]}.
+ * Blank lines and lines starting with {@code #} are skipped, and a name may be quoted.
+ * <p>
+ * JSON files hold an array of objects, or one object per line, with the same keys
+ * ({@code arrivalTime} and {@code burstTime} are accepted too).
+ * <p>
+ * Only {@code arrival} and {@code burst} are required: a missing id is the row number,
+ * a missing name is {@code P<id>}, and priority and quantum default to 0. Colours come
+ * from the {@link Palette}.
+ * <p>
+ * The file is read through a buffered channel and parsed byte by byte; numbers are
+ * decoded in place and the only object made per process, besides the process itself,
+ * is its name. {@link #read} passes the rows on without making processes at all. Malformed input raises a {@link WorkloadFormatException} with the line.
+ */
+public final class WorkloadLoader {
+    private static final int ID = 0;
+    private static final int NAME = 1;
+    private static final int PRIORITY = 2;
+    private static final int ARRIVAL = 3;
+    private static final int BURST = 4;
+    private static final int QUANTUM = 5;
+    private static final int IGNORED = -1;
+    private static final int FIELDS = 6;
+    private static final String[] FIELD_NAMES = {"id", "name", "priority", "arrival", "burst", "quantum"};
+    private static final int[] DEFAULT_COLUMNS = {ID, NAME, PRIORITY, ARRIVAL, BURST, QUANTUM};
+
+    /**
+     * Receives the processes of a file one row at a time, with the defaults filled in,
+     * so a workload can be passed on without being held; see {@link #read}.
+     */
+    public interface RowSink {
+        void row(int id, String name, int priority, int arrivalTime, int burstTime, int quantum) throws IOException;
+    }
+
+    private WorkloadLoader() {
+    }
+
+    /**
+     * Opens a workload file for the engines. A {@code .wkl} file is mapped and read
+     * straight from its columns, without a {@link ProcessSpec} per process; its channel
+     * is closed again at once, as the mapping outlives it. Other files are loaded as by
+     * {@link #load}.
+     */
+    public static Workload open(Path file) throws IOException {
+        if (file.getFileName().toString().toLowerCase().endsWith(".wkl")) {
+            try (MappedWorkload workload = MappedWorkload.open(file)) {
+                return workload;
+            }
+        }
+        return Workload.of(load(file));
+    }
+
+    /**
+     * Loads a {@code .json} or {@code .jsonl} file as JSON, a {@code .wkl} file as a
+     * {@link MappedWorkload} and anything else as CSV. A {@code .wkl} file is copied
+     * into a spec per process; {@link #open} avoids that.
+     */
+    public static List<ProcessSpec> load(Path file) throws IOException {
+        String name = file.getFileName().toString().toLowerCase();
+        if (name.endsWith(".wkl")) {
+            try (MappedWorkload workload = MappedWorkload.open(file)) {
+                return workload.toProcesses();
+            }
+        }
+        return name.endsWith(".json") || name.endsWith(".jsonl") ? loadJson(file) : loadCsv(file);
+    }
+
+    public static List<ProcessSpec> loadCsv(Path file) throws IOException {
+        List<ProcessSpec> processes = new ArrayList<>();
+        try (Input in = new Input(file)) {
+            readCsv(in, collector(processes));
+        }
+        return processes;
+    }
+
+    public static List<ProcessSpec> loadJson(Path file) throws IOException {
+        List<ProcessSpec> processes = new ArrayList<>();
+        try (Input in = new Input(file)) {
+            readJson(in, collector(processes));
+        }
+        return processes;
+    }
+
+    /**
+     * Reads a file like {@link #load} but hands each process to {@code sink} as soon as
+     * it is parsed instead of collecting them.
+     */
+    public static void read(Path file, RowSink sink) throws IOException {
+        String name = file.getFileName().toString().toLowerCase();
+        if (name.endsWith(".wkl")) {
+            try (MappedWorkload workload = MappedWorkload.open(file)) {
+                for (int i = 0; i < workload.size(); i++) {
+                    sink.row(workload.id(i), workload.name(i), workload.priority(i), workload.arrivalTime(i),
+                            workload.burstTime(i), workload.quantum(i));
+                }
+            }
+            return;
+        }
+        try (Input in = new Input(file)) {
+            if (name.endsWith(".json") || name.endsWith(".jsonl")) {
+                readJson(in, sink);
+            } else {
+                readCsv(in, sink);
+            }
+        }
+    }
+
+    private static RowSink collector(List<ProcessSpec> processes) {
+        return (id, name, priority, arrivalTime, burstTime, quantum) -> processes.add(
+                new ProcessSpec(id, name, Palette.get(processes.size()), priority, arrivalTime, burstTime, quantum));
+    }
+
+    private static void readCsv(Input in, RowSink sink) throws IOException {
+        int row = 0;
+        int[] values = new int[FIELDS];
+        boolean[] present = new boolean[FIELDS];
+        int[] columns = null;
+        in.skipByteOrderMark();
+        while (true) {
+            in.skipSpaces();
+            int c = in.peek();
+            if (c == Input.END) {
+                break;
+            }
+            if (c == '\n' || c == '\r' || c == '#') {
+                in.skipLine();
+                continue;
+            }
+            if (columns == null) {
+                if (Character.isLetter(c)) {
+                    columns = readHeader(in);
+                    continue;
+                }
+                columns = DEFAULT_COLUMNS;
+            }
+
+            Arrays.fill(present, false);
+            String name = null;
+            for (int column = 0; ; column++) {
+                if (column == columns.length) {
+                    throw in.error("more than " + columns.length + " fields");
+                }
+                int field = columns[column];
+                if (field == NAME) {
+                    name = in.readText(',');
+                } else if (field == IGNORED) {
+                    in.readText(',');
+                } else {
+                    values[field] = in.readInt(FIELD_NAMES[field]);
+                }
+                if (field >= 0) {
+                    present[field] = true;
+                }
+                in.skipSpaces();
+                c = in.read();
+                if (c == ',') {
+                    continue;
+                }
+                if (c == '\r') {
+                    c = in.read();
+                }
+                if (c != '\n' && c != Input.END) {
+                    throw in.error("unexpected '" + (char) c + "' after " + fieldName(field));
+                }
+                in.unreadNewline(c);
+                break;
+            }
+            emit(in, in.getLine(), values, present, name, row++, sink);
+            in.endLine();
+        }
+    }
+
+    private static int[] readHeader(Input in) throws IOException {
+        List<Integer> columns = new ArrayList<>();
+        while (true) {
+            String column = in.readText(',').replace("_", "").replace(" ", "").toLowerCase();
+            columns.add(fieldOf(column));
+            int c = in.read();
+            if (c == ',') {
+                continue;
+            }
+            if (c == '\r') {
+                c = in.read();
+            }
+            if (c != '\n' && c != Input.END) {
+                throw in.error("unexpected '" + (char) c + "' in header");
+            }
+            in.unreadNewline(c);
+            break;
+        }
+        in.endLine();
+        int[] result = new int[columns.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = columns.get(i);
+        }
+        return result;
+    }
+
+    private static int fieldOf(String key) {
+        switch (key) {
+            case "id":
+                return ID;
+            case "name":
+                return NAME;
+            case "priority":
+                return PRIORITY;
+            case "arrival":
+            case "arrivaltime":
+                return ARRIVAL;
+            case "burst":
+            case "bursttime":
+                return BURST;
+            case "quantum":
+                return QUANTUM;
+            default:
+                return IGNORED;
+        }
+    }
+
+    private static String fieldName(int field) {
+        return field >= 0 ? FIELD_NAMES[field] : "an ignored field";
+    }
+
+    private static void readJson(Input in, RowSink sink) throws IOException {
+        int row = 0;
+        int[] values = new int[FIELDS];
+        boolean[] present = new boolean[FIELDS];
+        in.skipByteOrderMark();
+        in.skipWhitespace();
+        boolean array = in.peek() == '[';
+        if (array) {
+            in.read();
+            in.skipWhitespace();
+            if (in.peek() == ']') {
+                in.read();
+                return;
+            }
+        }
+        while (true) {
+            in.skipWhitespace();
+            if (!array && in.peek() == Input.END) {
+                break;
+            }
+            readJsonProcess(in, values, present, row++, sink);
+            in.skipWhitespace();
+            if (array) {
+                int c = in.read();
+                if (c == ']') {
+                    break;
+                }
+                if (c != ',') {
+                    throw in.error("expected ',' or ']' after a process");
+                }
+            }
+        }
+        if (array) {
+            in.skipWhitespace();
+            if (in.peek() != Input.END) {
+                throw in.error("unexpected content after the array");
+            }
+        }
+    }
+
+    private static void readJsonProcess(Input in, int[] values, boolean[] present, int row, RowSink sink)
+            throws IOException {
+        long line = in.getLine();
+        if (in.read() != '{') {
+            throw in.error("expected '{'");
+        }
+        Arrays.fill(present, false);
+        String name = null;
+        in.skipWhitespace();
+        if (in.peek() == '}') {
+            in.read();
+        } else {
+            while (true) {
+                in.skipWhitespace();
+                int field = fieldOf(in.readJsonString().toLowerCase());
+                in.skipWhitespace();
+                if (in.read() != ':') {
+                    throw in.error("expected ':'");
+                }
+                in.skipWhitespace();
+                if (field == NAME) {
+                    name = in.peek() == '"' ? in.readJsonString() : String.valueOf(in.readInt("name"));
+                } else if (field == IGNORED) {
+                    in.skipJsonValue();
+                } else {
+                    values[field] = in.readInt(FIELD_NAMES[field]);
+                }
+                if (field >= 0) {
+                    present[field] = true;
+                }
+                in.skipWhitespace();
+                int c = in.read();
+                if (c == '}') {
+                    break;
+                }
+                if (c != ',') {
+                    throw in.error("expected ',' or '}'");
+                }
+            }
+        }
+        emit(in, line, values, present, name, row, sink);
+    }
+
+    private static void emit(Input in, long line, int[] values, boolean[] present, String name, int row,
+                             RowSink sink) throws IOException {
+        if (!present[ARRIVAL] || !present[BURST]) {
+            throw in.error(line, "missing " + (!present[ARRIVAL] ? "arrival" : "burst") + " time");
+        }
+        if (values[ARRIVAL] < 0) {
+            throw in.error(line, "negative arrival time");
+        }
+        if (values[BURST] <= 0) {
+            throw in.error(line, "burst time must be positive");
+        }
+        int id = present[ID] ? values[ID] : row + 1;
+        sink.row(id, name != null ? name : "P" + id, present[PRIORITY] ? values[PRIORITY] : 0, values[ARRIVAL],
+                values[BURST], present[QUANTUM] ? values[QUANTUM] : 0);
+    }
+
+    /**
+     * Buffered byte input over a file channel that counts lines.
+     */
+    private static final class Input implements AutoCloseable {
+        static final int END = -1;
+        private static final int BUFFER_BYTES = 1 << 16;
+
+        private final String file;
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+        private final byte[] bytes = buffer.array();
+        private byte[] text = new byte[64];
+        private int position;
+        private int limit;
+        private long line = 1;
+
+        Input(Path file) throws IOException {
+            this.file = file.toString();
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        }
+
+        long getLine() {
+            return line;
+        }
+
+        WorkloadFormatException error(String message) {
+            return error(line, message);
+        }
+
+        WorkloadFormatException error(long line, String message) {
+            return new WorkloadFormatException(file, line, message);
+        }
+
+        int peek() throws IOException {
+            if (position == limit && !fill()) {
+                return END;
+            }
+            return bytes[position] & 0xFF;
+        }
+
+        int read() throws IOException {
+            if (position == limit && !fill()) {
+                return END;
+            }
+            int c = bytes[position++] & 0xFF;
+            if (c == '\n') {
+                line++;
+            }
+            return c;
+        }
+
+        /**
+         * Steps back over the line break just read, so the line is counted by {@link #endLine}.
+         */
+        void unreadNewline(int c) {
+            if (c == '\n') {
+                line--;
+            }
+        }
+
+        void endLine() {
+            line++;
+        }
+
+        void skipByteOrderMark() throws IOException {
+            if (peek() == 0xEF) {
+                read();
+                if (read() != 0xBB || read() != 0xBF) {
+                    throw error("unexpected bytes at the start of the file");
+                }
+            }
+        }
+
+        void skipSpaces() throws IOException {
+            int c;
+            while ((c = peek()) == ' ' || c == '\t') {
+                position++;
+            }
+        }
+
+        void skipWhitespace() throws IOException {
+            int c;
+            while ((c = peek()) == ' ' || c == '\t' || c == '\n' || c == '\r') {
+                read();
+            }
+        }
+
+        void skipLine() throws IOException {
+            int c;
+            while ((c = read()) != '\n' && c != END) {
+                // skip
+            }
+        }
+
+        int readInt(String field) throws IOException {
+            skipSpaces();
+            boolean negative = false;
+            if (peek() == '-') {
+                negative = true;
+                position++;
+            }
+            long value = 0;
+            int digits = 0;
+            int c;
+            while ((c = peek()) >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+                if (value > (long) Integer.MAX_VALUE + 1) {
+                    throw error(field + " is out of range");
+                }
+                position++;
+                digits++;
+            }
+            if (digits == 0) {
+                throw error("expected a whole number for " + field);
+            }
+            value = negative ? -value : value;
+            if (value > Integer.MAX_VALUE) {
+                throw error(field + " is out of range");
+            }
+            return (int) value;
+        }
+
+        /**
+         * Reads a CSV field up to {@code delimiter} or the end of the line, trimmed; a
+         * field in double quotes may contain the delimiter and doubled quotes.
+         */
+        String readText(int delimiter) throws IOException {
+            skipSpaces();
+            int length = 0;
+            if (peek() == '"') {
+                position++;
+                while (true) {
+                    int c = read();
+                    if (c == END) {
+                        throw error("unterminated quoted field");
+                    }
+                    if (c == '"') {
+                        if (peek() != '"') {
+                            break;
+                        }
+                        position++;
+                    }
+                    length = append(length, c);
+                }
+                skipSpaces();
+            } else {
+                int c;
+                while ((c = peek()) != delimiter && c != '\n' && c != '\r' && c != END) {
+                    length = append(length, c);
+                    position++;
+                }
+                while (length > 0 && (text[length - 1] == ' ' || text[length - 1] == '\t')) {
+                    length--;
+                }
+            }
+            return new String(text, 0, length, StandardCharsets.UTF_8);
+        }
+
+        String readJsonString() throws IOException {
+            if (read() != '"') {
+                throw error("expected a string");
+            }
+            int length = 0;
+            // the escaped high half of a surrogate pair, waiting for its low half
+            int highSurrogate = -1;
+            while (true) {
+                int c = read();
+                if (c == END || c == '\n') {
+                    throw error("unterminated string");
+                }
+                int unit = -1;
+                if (c == '\\' && peek() == 'u') {
+                    position++;
+                    unit = readHex4();
+                }
+                if (highSurrogate >= 0) {
+                    if (unit >= 0 && Character.isLowSurrogate((char) unit)) {
+                        length = appendCodePoint(length, Character.toCodePoint((char) highSurrogate, (char) unit));
+                        highSurrogate = -1;
+                        continue;
+                    }
+                    // unpaired, it comes out as '?' like any lone surrogate
+                    length = appendCodePoint(length, highSurrogate);
+                    highSurrogate = -1;
+                }
+                if (unit >= 0) {
+                    if (Character.isHighSurrogate((char) unit)) {
+                        highSurrogate = unit;
+                    } else {
+                        length = appendCodePoint(length, unit);
+                    }
+                    continue;
+                }
+                if (c == '"') {
+                    break;
+                }
+                if (c == '\\') {
+                    c = read();
+                    switch (c) {
+                        case 'n':
+                            c = '\n';
+                            break;
+                        case 't':
+                            c = '\t';
+                            break;
+                        case 'r':
+                            c = '\r';
+                            break;
+                        case 'b':
+                            c = '\b';
+                            break;
+                        case 'f':
+                            c = '\f';
+                            break;
+                        case '"':
+                        case '\\':
+                        case '/':
+                            break;
+                        default:
+                            throw error("invalid escape in string");
+                    }
+                }
+                length = append(length, c);
+            }
+            return new String(text, 0, length, StandardCharsets.UTF_8);
+        }
+
+        void skipJsonValue() throws IOException {
+            int c = peek();
+            if (c == '"') {
+                readJsonString();
+                return;
+            }
+            if (c == '{' || c == '[') {
+                int depth = 0;
+                do {
+                    c = peek();
+                    if (c == '"') {
+                        readJsonString();
+                        continue;
+                    }
+                    read();
+                    if (c == '{' || c == '[') {
+                        depth++;
+                    } else if (c == '}' || c == ']') {
+                        depth--;
+                    } else if (c == END) {
+                        throw error("unterminated value");
+                    }
+                } while (depth > 0);
+                return;
+            }
+            // number, true, false or null
+            while ((c = peek()) != ',' && c != '}' && c != ']' && c != ' ' && c != '\t'
+                    && c != '\n' && c != '\r' && c != END) {
+                position++;
+            }
+        }
+
+        private int readHex4() throws IOException {
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                int digit = Character.digit(read(), 16);
+                if (digit < 0) {
+                    throw error("invalid \\u escape");
+                }
+                value = value * 16 + digit;
+            }
+            return value;
+        }
+
+        private int appendCodePoint(int length, int codePoint) {
+            byte[] encoded = new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8);
+            for (byte b : encoded) {
+                length = append(length, b & 0xFF);
+            }
+            return length;
+        }
+
+        private int append(int length, int c) {
+            if (length == text.length) {
+                text = Arrays.copyOf(text, length * 2);
+            }
+            text[length] = (byte) c;
+            return length + 1;
+        }
+
+        private boolean fill() throws IOException {
+            buffer.clear();
+            int read;
+            do {
+                read = channel.read(buffer);
+            } while (read == 0);
+            position = 0;
+            limit = Math.max(0, read);
+            return read > 0;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+import java.util.List;
+
+/**
+ * Source of random workloads. The same seed must always give the same workload.
+ */
+public interface WorkloadModel {
+    List<ProcessSpec> generate(long seed);
+
+    /**
+     * The same workload as {@link #generate}, for the engines. Models that can write
+     * their processes straight into columns return a {@link GeneratedWorkload} and never
+     * make the specs.
+     */
+    default Workload generateWorkload(long seed) {
+        return Workload.of(generate(seed));
+    }
+}
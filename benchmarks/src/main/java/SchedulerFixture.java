@@ -0,0 +1,56 @@
+import benchmarks.ScheduleRun;
+
+import java.util.List;
+
+/**
+ * Default-package side of the benchmarks: builds a workload and picks the engine by
+ * name. Benchmarks create it reflectively from {@link benchmarks.SchedulerBenchmark}.
+ * <p>
+ * Every distribution has a mean burst of 10 time units and arrivals at 90% load, so
+ * the ready queue stays bounded and run time grows with the number of processes
+ * rather than with the backlog.
+ */
+public final class SchedulerFixture implements ScheduleRun {
+    private static final int CONTEXT_SWITCH_TIME = 1;
+
+    private final SchedulingEngine engine;
+    private final List<ProcessSpec> workload;
+
+    public SchedulerFixture(String algorithm, String distribution, int processCount, long seed) {
+        this.engine = engine(algorithm);
+        this.workload = model(distribution, processCount).generate(seed);
+    }
+
+    private static SchedulingEngine engine(String algorithm) {
+        for (SchedulingEngine engine : AlgorithmComparison.allEngines(CONTEXT_SWITCH_TIME)) {
+            if (engine.getName().equalsIgnoreCase(algorithm)) {
+                return engine;
+            }
+        }
+        throw new IllegalArgumentException("unknown algorithm: " + algorithm);
+    }
+
+    private static WorkloadModel model(String distribution, int processCount) {
+        switch (distribution) {
+            case "uniform":
+                // bursts 1..19, gaps 0..22
+                return new RandomWorkloadModel(processCount, 22, 1, 19, 9, 1, 8);
+            case "pareto":
+            case "lognormal":
+                SyntheticWorkloadModel model = new SyntheticWorkloadModel(processCount, 0.09);
+                if (distribution.equals("pareto")) {
+                    model.setBurstDistribution(SyntheticWorkloadModel.BurstDistribution.PARETO, 10, 2.5);
+                } else {
+                    model.setBurstDistribution(SyntheticWorkloadModel.BurstDistribution.LOGNORMAL, 10, 1.0);
+                }
+                return model;
+            default:
+                throw new IllegalArgumentException("unknown burst distribution: " + distribution);
+        }
+    }
+
+    @Override
+    public Object run() {
+        return engine.run(workload);
+    }
+}
@@ -0,0 +1,15 @@
+package benchmarks;
+
+/**
+ * One engine set up with one workload, ready to be run again and again.
+ * <p>
+ * The scheduler classes live in the default package, which JMH benchmarks cannot
+ * reference, so the benchmarks only see this interface and {@code SchedulerFixture}
+ * implements it on the default-package side.
+ */
+public interface ScheduleRun {
+    /**
+     * Runs the engine over the workload and returns the result, for the blackhole.
+     */
+    Object run();
+}
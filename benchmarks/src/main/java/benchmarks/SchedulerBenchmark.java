@@ -0,0 +1,55 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time per run of each scheduling engine, without any Swing code, over workloads of
+ * several sizes and burst time distributions. Run with {@code -prof gc} for the
+ * allocation rate.
+ * <p>
+ * The event log is switched off in the forked JVM, as it is for any headless run that
+ * does not show the log.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dscheduler.log.level=OFF")
+public class SchedulerBenchmark {
+    @Param({"FCFS", "SJF", "SRTF", "Priority", "FCAI"})
+    public String algorithm;
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int processes;
+
+    @Param({"uniform", "pareto", "lognormal"})
+    public String bursts;
+
+    private ScheduleRun run;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        run = (ScheduleRun) Class.forName("SchedulerFixture")
+                .getConstructor(String.class, String.class, int.class, long.class)
+                .newInstance(algorithm, bursts, processes, 42L);
+    }
+
+    @Benchmark
+    public Object schedule() {
+        return run.run();
+    }
+}
@@ -0,0 +1,102 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedWorkloadTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void columnsReadBackAsWritten() throws IOException {
+        List<ProcessSpec> processes = randomWorkload(new Random(1), 500);
+        Path file = directory.resolve("w.wkl");
+        MappedWorkload.write(file, processes);
+        try (MappedWorkload workload = MappedWorkload.open(file)) {
+            assertEquals(processes.size(), workload.size());
+            for (int i = 0; i < processes.size(); i++) {
+                ProcessSpec p = processes.get(i);
+                assertEquals(p.getId(), workload.id(i));
+                assertEquals(p.getName(), workload.name(i));
+                assertEquals(p.getPriority(), workload.priority(i));
+                assertEquals(p.getArrivalTime(), workload.arrivalTime(i));
+                assertEquals(p.getBurstTime(), workload.burstTime(i));
+                assertEquals(p.getQuantum(), workload.quantum(i));
+            }
+        }
+    }
+
+    @Test
+    void enginesRunTheColumnsLikeTheList() throws IOException {
+        List<ProcessSpec> processes = randomWorkload(new Random(2), 2000);
+        Path file = directory.resolve("w.wkl");
+        MappedWorkload.write(file, processes);
+        try (MappedWorkload workload = MappedWorkload.open(file)) {
+            for (SchedulingEngine engine : AlgorithmComparison.allEngines(1)) {
+                ScheduleResult fromList = engine.run(processes);
+                ScheduleResult fromColumns = engine.run(workload);
+                for (int i = 0; i < processes.size(); i++) {
+                    assertEquals(fromList.getCompletionTime(i), fromColumns.getCompletionTime(i), engine.getName());
+                    assertEquals(fromList.getWaitingTime(i), fromColumns.getWaitingTime(i), engine.getName());
+                }
+                assertEquals(fromList.getTimeline().size(), fromColumns.getTimeline().size(), engine.getName());
+            }
+        }
+    }
+
+    @Test
+    void convertStreamsTheRowsOfATextFile() throws IOException {
+        Path csv = Files.write(directory.resolve("w.csv"),
+                "id,name,arrival,burst,quantum\n4,Zoë,0,3,2\n5,,1,2,1\n6,C,2,9,0\n".getBytes(StandardCharsets.UTF_8));
+        Path file = directory.resolve("w.wkl");
+        MappedWorkload.convert(csv, file);
+        List<ProcessSpec> processes = WorkloadLoader.load(csv);
+        try (MappedWorkload workload = MappedWorkload.open(file)) {
+            assertEquals(processes.size(), workload.size());
+            for (int i = 0; i < processes.size(); i++) {
+                ProcessSpec p = processes.get(i);
+                assertEquals(p.getId(), workload.id(i));
+                assertEquals(p.getName(), workload.name(i));
+                assertEquals(p.getArrivalTime(), workload.arrivalTime(i));
+                assertEquals(p.getBurstTime(), workload.burstTime(i));
+                assertEquals(p.getQuantum(), workload.quantum(i));
+            }
+        }
+    }
+
+    @Test
+    void badNameOffsetFailsToOpen() throws IOException {
+        Path file = directory.resolve("w.wkl");
+        MappedWorkload.write(file, randomWorkload(new Random(3), 10));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            // the offset of the fourth name, after the header and the five columns
+            ByteBuffer offset = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(1 << 20);
+            offset.flip();
+            channel.write(offset, 4 * Integer.BYTES + 5 * 10 * Integer.BYTES + 3 * Integer.BYTES);
+        }
+        assertThrows(IOException.class, () -> MappedWorkload.open(file));
+    }
+
+    private static List<ProcessSpec> randomWorkload(Random random, int n) {
+        List<ProcessSpec> processes = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            processes.add(new ProcessSpec(i, "Pé" + i, Color.GRAY, random.nextInt(10), random.nextInt(5 * n),
+                    1 + random.nextInt(20), 1 + random.nextInt(8)));
+        }
+        return processes;
+    }
+}
@@ -0,0 +1,114 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks every engine against {@link UnitStepReference} on random workloads: the
+ * engines skip ahead, age lazily and index their ready queues, and must still finish
+ * every process at the time the unit-step simulation does.
+ */
+class SchedulingEngineEquivalenceTest {
+    private static final int WORKLOADS = 2000;
+
+    @Test
+    void fcfs() {
+        check(new FCFSEngine(), UnitStepReference::fcfs);
+    }
+
+    @Test
+    void sjf() {
+        check(new SJFEngine(), w -> UnitStepReference.sjf(w, SJFEngine.DEFAULT_AGING_THRESHOLD));
+    }
+
+    @Test
+    void sjfWithOtherAgingThresholds() {
+        for (int threshold = 0; threshold <= 8; threshold++) {
+            int agingThreshold = threshold;
+            check(new SJFEngine(agingThreshold), w -> UnitStepReference.sjf(w, agingThreshold));
+        }
+    }
+
+    @Test
+    void srtf() {
+        for (int contextSwitch = 0; contextSwitch <= 2; contextSwitch++) {
+            int cs = contextSwitch;
+            check(new SRTFEngine(cs), w -> UnitStepReference.srtf(w, cs, SRTFEngine.DEFAULT_AGING_THRESHOLD));
+        }
+    }
+
+    @Test
+    void srtfWithOtherAgingThresholds() {
+        for (int threshold = 0; threshold <= 8; threshold++) {
+            int agingThreshold = threshold;
+            check(new SRTFEngine(1, agingThreshold), w -> UnitStepReference.srtf(w, 1, agingThreshold));
+        }
+    }
+
+    @Test
+    void priority() {
+        for (int contextSwitch = 0; contextSwitch <= 2; contextSwitch++) {
+            int cs = contextSwitch;
+            check(new PriorityEngine(cs), w -> UnitStepReference.priority(w, cs));
+        }
+    }
+
+    @Test
+    void preemptivePriority() {
+        for (int contextSwitch = 0; contextSwitch <= 2; contextSwitch++) {
+            int cs = contextSwitch;
+            check(new PriorityEngine(cs, true), w -> UnitStepReference.preemptivePriority(w, cs));
+        }
+    }
+
+    @Test
+    void fcai() {
+        check(new FCAIEngine(), UnitStepReference::fcai);
+    }
+
+    private static void check(SchedulingEngine engine, Function<List<ProcessSpec>, int[]> reference) {
+        Random random = new Random(42);
+        for (int w = 0; w < WORKLOADS; w++) {
+            List<ProcessSpec> workload = randomWorkload(random);
+            int[] expected = reference.apply(workload);
+            ScheduleResult result = engine.run(workload);
+            int[] actual = new int[result.size()];
+            for (int i = 0; i < actual.length; i++) {
+                actual[i] = result.getCompletionTime(i);
+            }
+            assertArrayEquals(expected, actual, () -> engine.getName() + " on " + describe(workload));
+        }
+    }
+
+    /**
+     * Small workloads with many ties, arriving in order or shuffled, with short and
+     * long bursts mixed so that aging and preemption both come into play.
+     */
+    private static List<ProcessSpec> randomWorkload(Random random) {
+        int n = 1 + random.nextInt(random.nextInt(4) == 0 ? 40 : 12);
+        boolean sorted = random.nextBoolean();
+        int longestBurst = random.nextBoolean() ? 8 : 30;
+        List<ProcessSpec> workload = new ArrayList<>(n);
+        int arrival = 0;
+        for (int i = 0; i < n; i++) {
+            arrival = sorted ? arrival + random.nextInt(4) : random.nextInt(20);
+            workload.add(new ProcessSpec(i + 1, "P" + (i + 1), Color.GRAY, random.nextInt(10), arrival,
+                    1 + random.nextInt(longestBurst), 1 + random.nextInt(8)));
+        }
+        return workload;
+    }
+
+    private static String describe(List<ProcessSpec> workload) {
+        StringBuilder description = new StringBuilder();
+        for (ProcessSpec p : workload) {
+            description.append(String.format("(a%d b%d p%d q%d)", p.getArrivalTime(), p.getBurstTime(),
+                    p.getPriority(), p.getQuantum()));
+        }
+        return description.toString();
+    }
+}
@@ -0,0 +1,40 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TraceReplayerTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void repeatedIdsReplayToTheirOwnSlots() throws IOException {
+        List<ProcessSpec> processes = new ArrayList<>();
+        // the later arrival with the same id completes first
+        processes.add(new ProcessSpec(1, "long", Color.RED, 0, 0, 20, 2));
+        processes.add(new ProcessSpec(1, "short", Color.BLUE, 0, 1, 2, 2));
+        processes.add(new ProcessSpec(2, "other", Color.GREEN, 0, 2, 5, 2));
+        SchedulingEngine engine = new SRTFEngine(0);
+        Path file = directory.resolve("run.trace");
+        ScheduleResult result;
+        try (TraceWriter writer = new TraceWriter(file, engine.getName(), processes)) {
+            result = engine.run(processes, writer);
+            writer.finish(result);
+        }
+
+        ScheduleResult replayed = TraceReplayer.load(file);
+        assertEquals(engine.getName(), replayed.getAlgorithm());
+        for (int i = 0; i < processes.size(); i++) {
+            assertEquals(result.getCompletionTime(i), replayed.getCompletionTime(i));
+            assertEquals(result.getWaitingTime(i), replayed.getWaitingTime(i));
+            assertEquals(result.getTurnaroundTime(i), replayed.getTurnaroundTime(i));
+        }
+        assertEquals(result.getTimeline().size(), replayed.getTimeline().size());
+    }
+}
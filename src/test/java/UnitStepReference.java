@@ -0,0 +1,362 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * The scheduling algorithms as plain unit-step simulations: one time unit per loop
+ * iteration, the ready queue scanned in full and aging applied to every waiting
+ * process each round. They follow the rules of the engines without any of their
+ * shortcuts and serve as the expected results in the equivalence tests.
+ * <p>
+ * Every method returns the completion times indexed like the workload.
+ */
+final class UnitStepReference {
+    private UnitStepReference() {
+    }
+
+    static int[] fcfs(List<ProcessSpec> workload) {
+        int[] completion = new int[workload.size()];
+        int currentTime = 0;
+        for (int i : admissionOrder(workload, false)) {
+            ProcessSpec p = workload.get(i);
+            currentTime = Math.max(currentTime, p.getArrivalTime()) + p.getBurstTime();
+            completion[i] = currentTime;
+        }
+        return completion;
+    }
+
+    static int[] sjf(List<ProcessSpec> workload, int agingThreshold) {
+        return shortestRemaining(workload, 0, agingThreshold, false);
+    }
+
+    static int[] srtf(List<ProcessSpec> workload, int contextSwitchTime, int agingThreshold) {
+        return shortestRemaining(workload, contextSwitchTime, agingThreshold, true);
+    }
+
+    /**
+     * SJF and SRTF: every round each waiting process counts one more round of waiting
+     * and, on reaching the threshold, loses a unit of remaining time. A dispatched
+     * process gets that credit back; the aged value only decides the order.
+     */
+    private static int[] shortestRemaining(List<ProcessSpec> workload, int contextSwitchTime, int agingThreshold,
+                                           boolean preemptive) {
+        int n = workload.size();
+        int[] completion = new int[n];
+        int[] remaining = new int[n];
+        int[] waitTime = new int[n];
+        int[] agingSteps = new int[n];
+        for (int i = 0; i < n; i++) {
+            remaining[i] = workload.get(i).getBurstTime();
+        }
+        int[] position = positions(admissionOrder(workload, true));
+        Comparator<Integer> order = Comparator.<Integer>comparingInt(i -> remaining[i]).thenComparingInt(i -> position[i]);
+
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            pending.add(i);
+        }
+        List<Integer> readyQueue = new ArrayList<>();
+        int current = -1;
+        boolean ranBefore = false;
+        int currentTime = 0;
+
+        while (!pending.isEmpty() || !readyQueue.isEmpty() || current >= 0) {
+            for (int k = pending.size() - 1; k >= 0; k--) {
+                if (workload.get(pending.get(k)).getArrivalTime() <= currentTime) {
+                    readyQueue.add(pending.remove(k));
+                }
+            }
+
+            if (preemptive && current >= 0 && !readyQueue.isEmpty() &&
+                    remaining[min(readyQueue, order)] < remaining[current]) {
+                readyQueue.add(current);
+                current = dispatch(readyQueue, order, remaining, agingSteps);
+                currentTime += contextSwitchTime;
+            }
+
+            if (agingThreshold > 0) {
+                for (int i : readyQueue) {
+                    if (++waitTime[i] >= agingThreshold) {
+                        remaining[i]--;
+                        waitTime[i] = 0;
+                        agingSteps[i]++;
+                    }
+                }
+            }
+
+            if (current < 0 && !readyQueue.isEmpty()) {
+                current = dispatch(readyQueue, order, remaining, agingSteps);
+                if (preemptive && ranBefore) {
+                    currentTime += contextSwitchTime;
+                }
+            }
+
+            if (current >= 0) {
+                ranBefore = true;
+                if (--remaining[current] == 0) {
+                    completion[current] = currentTime + 1;
+                    current = -1;
+                }
+            }
+            currentTime++;
+        }
+        return completion;
+    }
+
+    private static int dispatch(List<Integer> readyQueue, Comparator<Integer> order, int[] remaining, int[] agingSteps) {
+        int next = min(readyQueue, order);
+        readyQueue.remove(Integer.valueOf(next));
+        remaining[next] += agingSteps[next];
+        agingSteps[next] = 0;
+        return next;
+    }
+
+    static int[] priority(List<ProcessSpec> workload, int contextSwitchTime) {
+        int n = workload.size();
+        int[] completion = new int[n];
+        int[] position = positions(admissionOrder(workload, true));
+        Comparator<Integer> order = byPriority(workload, position);
+
+        List<Integer> pending = new ArrayList<>(admissionOrder(workload, true));
+        List<Integer> readyQueue = new ArrayList<>();
+        int currentTime = 0;
+
+        while (!pending.isEmpty() || !readyQueue.isEmpty()) {
+            while (!pending.isEmpty() && workload.get(pending.get(0)).getArrivalTime() <= currentTime) {
+                readyQueue.add(pending.remove(0));
+            }
+            if (readyQueue.isEmpty()) {
+                currentTime = workload.get(pending.get(0)).getArrivalTime();
+                continue;
+            }
+            int current = min(readyQueue, order);
+            readyQueue.remove(Integer.valueOf(current));
+            if (currentTime > 0 && workload.get(current).getArrivalTime() != currentTime) {
+                currentTime += contextSwitchTime;
+            }
+            currentTime += workload.get(current).getBurstTime();
+            completion[current] = currentTime;
+        }
+        return completion;
+    }
+
+    /**
+     * Preemptive priority: a strictly higher priority in the ready queue takes the CPU,
+     * and switching to a different process than the one that ran last costs a context switch.
+     */
+    static int[] preemptivePriority(List<ProcessSpec> workload, int contextSwitchTime) {
+        int n = workload.size();
+        int[] completion = new int[n];
+        int[] remaining = new int[n];
+        for (int i = 0; i < n; i++) {
+            remaining[i] = workload.get(i).getBurstTime();
+        }
+        List<Integer> pending = new ArrayList<>(admissionOrder(workload, true));
+        int[] position = positions(pending);
+        Comparator<Integer> order = byPriority(workload, position);
+
+        List<Integer> readyQueue = new ArrayList<>();
+        int current = -1;
+        int previous = -1;
+        int finished = 0;
+        int currentTime = 0;
+
+        while (finished < n) {
+            while (!pending.isEmpty() && workload.get(pending.get(0)).getArrivalTime() <= currentTime) {
+                readyQueue.add(pending.remove(0));
+            }
+            if (current >= 0 && !readyQueue.isEmpty() &&
+                    workload.get(min(readyQueue, order)).getPriority() < workload.get(current).getPriority()) {
+                readyQueue.add(current);
+                current = -1;
+            }
+            if (current < 0) {
+                if (readyQueue.isEmpty()) {
+                    currentTime = workload.get(pending.get(0)).getArrivalTime();
+                    continue;
+                }
+                current = min(readyQueue, order);
+                readyQueue.remove(Integer.valueOf(current));
+                if (previous >= 0 && previous != current) {
+                    currentTime += contextSwitchTime;
+                }
+                previous = current;
+            }
+            if (remaining[current] == 0) {
+                completion[current] = currentTime;
+                finished++;
+                current = -1;
+                continue;
+            }
+            if (!pending.isEmpty() && workload.get(pending.get(0)).getArrivalTime() <= currentTime) {
+                continue;
+            }
+            currentTime++;
+            if (--remaining[current] == 0) {
+                completion[current] = currentTime;
+                finished++;
+                current = -1;
+            }
+        }
+        return completion;
+    }
+
+    /**
+     * FCAI with the default quantum split and divisors, stepping one time unit at a
+     * time through the part of the quantum that can be preempted.
+     */
+    static int[] fcai(List<ProcessSpec> workload) {
+        int n = workload.size();
+        int[] completion = new int[n];
+        if (n == 0) {
+            return completion;
+        }
+        int[] remaining = new int[n];
+        int[] quantum = new int[n];
+        double[] factor = new double[n];
+        int lastArrivalTime = 0;
+        int maxBurstTime = 0;
+        for (int i = 0; i < n; i++) {
+            ProcessSpec p = workload.get(i);
+            remaining[i] = p.getBurstTime();
+            quantum[i] = p.getQuantum();
+            lastArrivalTime = Math.max(lastArrivalTime, p.getArrivalTime());
+            maxBurstTime = Math.max(maxBurstTime, p.getBurstTime());
+        }
+        double v1 = lastArrivalTime / FCAIEngine.DEFAULT_DIVISOR;
+        double v2 = maxBurstTime / FCAIEngine.DEFAULT_DIVISOR;
+        for (int i = 0; i < n; i++) {
+            factor[i] = fcaiFactor(workload.get(i), remaining[i], v1, v2);
+        }
+
+        Deque<Integer> pending = new ArrayDeque<>(admissionOrder(workload, false));
+        Deque<Integer> dq = new ArrayDeque<>();
+        int currentTime = workload.get(pending.getFirst()).getArrivalTime();
+        dq.addFirst(pending.removeFirst());
+        int done = 0;
+
+        while (done != n) {
+            if (dq.isEmpty()) {
+                dq.addFirst(pending.removeFirst());
+            }
+            int first = dq.getFirst();
+            int oldQuantum = quantum[first];
+            int executed = Math.min((int) Math.ceil(FCAIEngine.DEFAULT_QUANTUM_SPLIT * quantum[first]), remaining[first]);
+            remaining[first] -= executed;
+            currentTime += executed;
+            int unused = quantum[first] - executed;
+            if (remaining[first] <= 0) {
+                completion[first] = currentTime;
+                done++;
+                dq.removeFirst();
+                continue;
+            }
+
+            Integer preemptor = lowestFactorBelow(dq, factor, (int) factor[first]);
+            if (preemptor != null) {
+                factor[first] = fcaiFactor(workload.get(first), remaining[first], v1, v2);
+                quantum[first] = oldQuantum + unused;
+                dq.removeFirstOccurrence(preemptor);
+                dq.removeFirst();
+                dq.addFirst(preemptor);
+                dq.addLast(first);
+                continue;
+            }
+
+            boolean preempted = false;
+            while (unused > 0 && remaining[first] > 0) {
+                remaining[first]--;
+                unused--;
+                currentTime++;
+                if (!pending.isEmpty() && workload.get(pending.getFirst()).getArrivalTime() <= currentTime) {
+                    dq.addLast(pending.removeFirst());
+                    preemptor = lowestFactorBelow(dq, factor, (int) factor[first]);
+                    if (preemptor != null) {
+                        dq.removeFirstOccurrence(preemptor);
+                        dq.removeFirst();
+                        dq.addFirst(preemptor);
+                        dq.addLast(first);
+                        preempted = true;
+                        break;
+                    }
+                }
+            }
+            // after a preemption this looks at the preempting process, as FCAI always has
+            int head = dq.getFirst();
+            if (remaining[head] <= 0) {
+                completion[head] = currentTime;
+                done++;
+                dq.removeFirst();
+                continue;
+            }
+            if (unused == 0) {
+                if (!preempted) {
+                    dq.removeFirst();
+                    dq.addLast(head);
+                }
+                quantum[dq.getLast()] += 2;
+            } else {
+                quantum[dq.getLast()] += unused;
+            }
+            int last = dq.getLast();
+            factor[last] = fcaiFactor(workload.get(last), remaining[last], v1, v2);
+        }
+        return completion;
+    }
+
+    private static double fcaiFactor(ProcessSpec p, int remaining, double v1, double v2) {
+        return (10 - p.getPriority()) + Math.ceil(p.getArrivalTime() / v1) + Math.ceil(remaining / v2);
+    }
+
+    private static Integer lowestFactorBelow(Deque<Integer> dq, double[] factor, int limit) {
+        int lowest = (int) 1e9;
+        Integer found = null;
+        for (int i : dq) {
+            if (factor[i] < limit && factor[i] < lowest) {
+                found = i;
+                lowest = (int) factor[i];
+            }
+        }
+        return found;
+    }
+
+    private static Comparator<Integer> byPriority(List<ProcessSpec> workload, int[] position) {
+        return Comparator.<Integer>comparingInt(i -> workload.get(i).getPriority())
+                .thenComparingInt(i -> workload.get(i).getArrivalTime())
+                .thenComparingInt(i -> position[i]);
+    }
+
+    /**
+     * Input positions sorted by arrival time and, if asked, priority, keeping the input
+     * order otherwise.
+     */
+    private static List<Integer> admissionOrder(List<ProcessSpec> workload, boolean byPriority) {
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < workload.size(); i++) {
+            order.add(i);
+        }
+        Comparator<Integer> byArrival = Comparator.comparingInt(i -> workload.get(i).getArrivalTime());
+        order.sort(byPriority ? byArrival.thenComparingInt(i -> workload.get(i).getPriority()) : byArrival);
+        return order;
+    }
+
+    private static int[] positions(List<Integer> order) {
+        int[] position = new int[order.size()];
+        for (int k = 0; k < order.size(); k++) {
+            position[order.get(k)] = k;
+        }
+        return position;
+    }
+
+    private static int min(List<Integer> readyQueue, Comparator<Integer> order) {
+        int best = readyQueue.get(0);
+        for (int i : readyQueue) {
+            if (order.compare(i, best) < 0) {
+                best = i;
+            }
+        }
+        return best;
+    }
+}
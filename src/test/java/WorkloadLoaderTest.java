@@ -0,0 +1,84 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WorkloadLoaderTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void csvWithHeaderInAnyColumnOrder() throws IOException {
+        List<ProcessSpec> processes = load("w.csv",
+                "burst,arrival,name,id\n# comment\n\n4,0,\"A, first\",7\n2,3,B,8\n");
+        assertEquals(2, processes.size());
+        assertEquals("A, first", processes.get(0).getName());
+        assertEquals(7, processes.get(0).getId());
+        assertEquals(4, processes.get(0).getBurstTime());
+        assertEquals(3, processes.get(1).getArrivalTime());
+        assertEquals(0, processes.get(1).getPriority());
+    }
+
+    @Test
+    void jsonEscapes() throws IOException {
+        List<ProcessSpec> processes = load("w.json",
+                "[{\"name\": \"a\\\"b\\\\c\\/d\\te\\u00e9\", \"arrival\": 0, \"burst\": 1}]");
+        assertEquals("a\"b\\c/d\te\u00e9", processes.get(0).getName());
+    }
+
+    @Test
+    void jsonSurrogatePairIsOneCodePoint() throws IOException {
+        List<ProcessSpec> processes = load("w.json",
+                "[{\"name\": \"\\ud83d\\ude00 \\uD83D\\uDE00\", \"arrival\": 0, \"burst\": 1}]");
+        assertEquals("\ud83d\ude00 \ud83d\ude00", processes.get(0).getName());
+    }
+
+    @Test
+    void jsonLoneSurrogatesBecomeQuestionMarks() throws IOException {
+        List<ProcessSpec> processes = load("w.jsonl",
+                "{\"name\": \"\\ud83dx\", \"arrival\": 0, \"burst\": 1}\n"
+                        + "{\"name\": \"\\ude00\\ud83d\", \"arrival\": 0, \"burst\": 1}\n"
+                        + "{\"name\": \"\\ud83d\\n\", \"arrival\": 0, \"burst\": 1}\n");
+        assertEquals("?x", processes.get(0).getName());
+        assertEquals("??", processes.get(1).getName());
+        assertEquals("?\n", processes.get(2).getName());
+    }
+
+    @Test
+    void missingBurstIsReportedWithItsLine() throws IOException {
+        Path file = write("w.csv", "id,arrival,burst\n1,0,2\n2,5,\n");
+        WorkloadFormatException e = assertThrows(WorkloadFormatException.class, () -> WorkloadLoader.load(file));
+        assertEquals(3L, e.getLine());
+    }
+
+    @Test
+    void wklOpensAsItsColumns() throws IOException {
+        List<ProcessSpec> processes = load("w.csv", "id,name,priority,arrival,burst,quantum\n3,A,1,0,4,2\n9,B,0,2,5,3\n");
+        Path file = directory.resolve("w.wkl");
+        MappedWorkload.write(file, processes);
+        Workload workload = WorkloadLoader.open(file);
+        assertInstanceOf(MappedWorkload.class, workload);
+        assertEquals(2, workload.size());
+        assertEquals(9, workload.id(1));
+        assertEquals("B", workload.name(1));
+        assertEquals(5, workload.burstTime(1));
+        assertEquals(3, workload.quantum(1));
+        assertEquals(9, new FCFSEngine().run(workload).getCompletionTime(1));
+    }
+
+    private List<ProcessSpec> load(String name, String content) throws IOException {
+        return WorkloadLoader.load(write(name, content));
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.write(directory.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
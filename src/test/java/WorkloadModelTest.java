@@ -0,0 +1,43 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class WorkloadModelTest {
+    @Test
+    void syntheticColumnsMatchTheListAndTheStream() {
+        SyntheticWorkloadModel model = new SyntheticWorkloadModel(5000, 0.2);
+        model.setBurstyArrivals(4, 30);
+        model.setBurstDistribution(SyntheticWorkloadModel.BurstDistribution.LOGNORMAL, 10, 1.0);
+        model.setPriorityWeights(1, 2, 7);
+        assertSame(model.generate(7), model.generateWorkload(7));
+
+        Workload columns = model.generateWorkload(7);
+        Iterator<ProcessSpec> stream = model.stream(7);
+        for (int i = 0; i < columns.size(); i++) {
+            assertEquals(stream.next().getBurstTime(), columns.burstTime(i));
+        }
+    }
+
+    @Test
+    void randomColumnsMatchTheList() {
+        RandomWorkloadModel model = new RandomWorkloadModel(5000, 22, 1, 19, 9, 1, 8);
+        assertSame(model.generate(3), model.generateWorkload(3));
+    }
+
+    private static void assertSame(List<ProcessSpec> processes, Workload workload) {
+        assertEquals(processes.size(), workload.size());
+        for (int i = 0; i < processes.size(); i++) {
+            ProcessSpec p = processes.get(i);
+            assertEquals(p.getId(), workload.id(i));
+            assertEquals(p.getName(), workload.name(i));
+            assertEquals(p.getColor(), workload.color(i));
+            assertEquals(p.getPriority(), workload.priority(i));
+            assertEquals(p.getArrivalTime(), workload.arrivalTime(i));
+            assertEquals(p.getBurstTime(), workload.burstTime(i));
+            assertEquals(p.getQuantum(), workload.quantum(i));
+        }
+    }
+}